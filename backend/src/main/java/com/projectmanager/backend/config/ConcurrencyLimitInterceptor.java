@@ -0,0 +1,72 @@
+package com.projectmanager.backend.config;
+
+import com.projectmanager.backend.exception.ServiceUnavailableException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.thread.Threading;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Caps the number of API requests in flight so a burst cannot pile up on the connection pool.
+ * With virtual threads Tomcat no longer bounds concurrency by its worker count, so this is the guard, and it only
+ * exists when virtual threads are actually in use (Java 21+); requests that cannot get a permit within the wait are
+ * rejected with 503 instead of queueing on Hikari. The permits plus app.maxConcurrentExports should not exceed the pool size.
+ */
+@Slf4j
+@Component
+@ConditionalOnThreading(Threading.VIRTUAL)
+public class ConcurrencyLimitInterceptor implements AsyncHandlerInterceptor {
+    private static final String PERMIT_ATTRIBUTE = ConcurrencyLimitInterceptor.class.getName() + ".permit";
+
+    private final Semaphore permits;
+    private final long waitMs;
+
+    public ConcurrencyLimitInterceptor(@Value("${app.maxConcurrentRequests:16}") int maxConcurrentRequests,
+                                       @Value("${app.concurrencyWaitMs:500}") long waitMs) {
+        this.permits = new Semaphore(maxConcurrentRequests, true);
+        this.waitMs = waitMs;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler)
+            throws InterruptedException {
+        if (!permits.tryAcquire(waitMs, TimeUnit.MILLISECONDS)) {
+            log.warn("Request rejected, concurrency limit reached. Path: {}", request.getRequestURI());
+            throw new ServiceUnavailableException("Server is busy, retry shortly");
+        }
+        request.setAttribute(PERMIT_ATTRIBUTE, Boolean.TRUE);
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler,
+                                Exception ex) {
+        release(request);
+    }
+
+    // Exports hand the response to another thread; the permit only covers the handler call, ExportService caps
+    // the streams themselves
+    @Override
+    public void afterConcurrentHandlingStarted(HttpServletRequest request, HttpServletResponse response,
+                                               Object handler) {
+        release(request);
+    }
+
+    public int getAvailablePermits() {
+        return permits.availablePermits();
+    }
+
+    private void release(HttpServletRequest request) {
+        if (request.getAttribute(PERMIT_ATTRIBUTE) != null) {
+            request.removeAttribute(PERMIT_ATTRIBUTE);
+            permits.release();
+        }
+    }
+}
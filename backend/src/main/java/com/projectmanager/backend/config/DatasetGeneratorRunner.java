@@ -0,0 +1,97 @@
+package com.projectmanager.backend.config;
+
+import com.projectmanager.backend.service.DatasetGenerator;
+import com.projectmanager.backend.service.SearchService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+/**
+ * Command-line entry point for the dataset generator, active with the "datagen" profile:
+ * java -jar backend.jar --spring.profiles.active=datagen --app.datagen.users=100000
+ * Loads into the configured datasource, then shuts the application down.
+ * With app.datagen.compareUuidVersions=true it loads the dataset with v4 and then v7 ids and logs both rates.
+ */
+@Component
+@Profile("datagen")
+@RequiredArgsConstructor
+public class DatasetGeneratorRunner implements ApplicationRunner {
+
+    private final DatasetGenerator datasetGenerator;
+    private final SearchService searchService;
+    private final ConfigurableApplicationContext context;
+
+    @Value("${app.datagen.users:1000}")
+    private int users;
+
+    @Value("${app.datagen.avgProjectsPerUser:10}")
+    private double avgProjectsPerUser;
+
+    @Value("${app.datagen.maxProjectsPerUser:500}")
+    private int maxProjectsPerUser;
+
+    @Value("${app.datagen.avgTasksPerProject:40}")
+    private double avgTasksPerProject;
+
+    @Value("${app.datagen.maxTasksPerProject:50000}")
+    private int maxTasksPerProject;
+
+    @Value("${app.datagen.taskCountSigma:1.5}")
+    private double taskCountSigma;
+
+    @Value("${app.datagen.seed:42}")
+    private long seed;
+
+    @Value("${app.datagen.uuidVersion:7}")
+    private int uuidVersion;
+
+    @Value("${app.datagen.emailPrefix:user}")
+    private String emailPrefix;
+
+    @Value("${app.datagen.password:password}")
+    private String password;
+
+    @Value("${app.datagen.threads:4}")
+    private int threads;
+
+    @Value("${app.datagen.batchSize:5000}")
+    private int batchSize;
+
+    @Value("${app.datagen.compareUuidVersions:false}")
+    private boolean compareUuidVersions;
+
+    @Value("${app.datagen.reindexSearch:false}")
+    private boolean reindexSearch;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        DatasetGenerator.Spec spec = DatasetGenerator.Spec.builder()
+                .users(users)
+                .avgProjectsPerUser(avgProjectsPerUser)
+                .maxProjectsPerUser(maxProjectsPerUser)
+                .avgTasksPerProject(avgTasksPerProject)
+                .maxTasksPerProject(maxTasksPerProject)
+                .taskCountSigma(taskCountSigma)
+                .seed(seed)
+                .uuidVersion(uuidVersion)
+                .emailPrefix(emailPrefix)
+                .password(password)
+                .threads(threads)
+                .batchSize(batchSize)
+                .build();
+        if (compareUuidVersions) {
+            datasetGenerator.compareUuidVersions(spec);
+        } else {
+            datasetGenerator.generate(spec);
+        }
+        if (reindexSearch) {
+            searchService.reindexAll();
+        }
+        System.exit(SpringApplication.exit(context));
+    }
+}
@@ -0,0 +1,81 @@
+package com.projectmanager.backend.config;
+
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.hibernate.autoconfigure.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import javax.cache.spi.CachingProvider;
+import java.net.URI;
+import java.util.OptionalLong;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Caffeine-backed JCache regions for the Hibernate second-level and query caches.
+ * Every region is created here with a size and TTL bound; Hibernate is told to fail on any other region
+ * instead of silently creating an unbounded one.
+ * Regions are local to the JVM, so with several instances the TTL bounds how stale a peer's copy can get.
+ */
+@Configuration
+public class HibernateCacheConfig {
+    public static final String USER_REGION = "user";
+    public static final String PROJECT_REGION = "project";
+    public static final String TASK_REGION = "task";
+    public static final String PROJECT_TASKS_REGION = "project.tasks";
+    public static final String QUERY_RESULTS_REGION = "default-query-results-region";
+    // Cached queries over tasks, kept apart so JDBC writes to tasks can drop them without the project queries
+    public static final String TASK_QUERY_REGION = "task-queries";
+    // The project list ETag, kept apart so JDBC counter writes can drop it without the cached project lists
+    public static final String PROJECT_VERSION_QUERY_REGION = "project-versions";
+    public static final String UPDATE_TIMESTAMPS_REGION = "default-update-timestamps-region";
+
+    @Value("${app.entityCacheTtlMs:600000}")
+    private long entityTtlMs;
+
+    @Value("${app.entityCacheMaxSize:10000}")
+    private long entityMaxSize;
+
+    @Value("${app.queryCacheTtlMs:60000}")
+    private long queryTtlMs;
+
+    @Value("${app.queryCacheMaxSize:5000}")
+    private long queryMaxSize;
+
+    @Bean(destroyMethod = "close")
+    public CacheManager hibernateCacheManager() {
+        CachingProvider provider = Caching.getCachingProvider(CaffeineCachingProvider.class.getName());
+        // A private URI per application context, so test contexts sharing a class loader do not share regions
+        CacheManager cacheManager = provider.getCacheManager(URI.create("hibernate-" + UUID.randomUUID()),
+                getClass().getClassLoader());
+        for (String region : new String[] { USER_REGION, PROJECT_REGION, TASK_REGION, PROJECT_TASKS_REGION }) {
+            cacheManager.createCache(region, bounded(entityMaxSize, entityTtlMs));
+        }
+        cacheManager.createCache(QUERY_RESULTS_REGION, bounded(queryMaxSize, queryTtlMs));
+        cacheManager.createCache(TASK_QUERY_REGION, bounded(queryMaxSize, queryTtlMs));
+        cacheManager.createCache(PROJECT_VERSION_QUERY_REGION, bounded(queryMaxSize, queryTtlMs));
+        // One entry per table; evicting one would let a stale query result be served
+        cacheManager.createCache(UPDATE_TIMESTAMPS_REGION, new CaffeineConfiguration<>());
+        return cacheManager;
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer hibernateCacheCustomizer(CacheManager hibernateCacheManager) {
+        return properties -> {
+            properties.put(ConfigSettings.CACHE_MANAGER, hibernateCacheManager);
+            properties.put(ConfigSettings.MISSING_CACHE_STRATEGY, "fail");
+        };
+    }
+
+    private static CaffeineConfiguration<Object, Object> bounded(long maxSize, long ttlMs) {
+        CaffeineConfiguration<Object, Object> configuration = new CaffeineConfiguration<>();
+        configuration.setMaximumSize(OptionalLong.of(maxSize));
+        configuration.setExpireAfterWrite(OptionalLong.of(TimeUnit.MILLISECONDS.toNanos(ttlMs)));
+        return configuration;
+    }
+}
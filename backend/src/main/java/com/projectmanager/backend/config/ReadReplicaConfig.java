@@ -0,0 +1,116 @@
+package com.projectmanager.backend.config;
+
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.resource.jdbc.spi.PhysicalConnectionHandlingMode;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.hibernate.autoconfigure.HibernatePropertiesCustomizer;
+import org.springframework.boot.jdbc.autoconfigure.DataSourceProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Sends read-only transactions to the replicas in app.replicaUrls; everything else stays on spring.datasource.url.
+ * The lazy proxy only takes a physical connection at the first statement, by which time the transaction is set up
+ * and the router can see whether it is read-only. Without app.replicaUrls none of this is created.
+ */
+@Configuration
+@ConditionalOnProperty(name = "app.replicaUrls")
+public class ReadReplicaConfig {
+
+    @Value("${app.replicaUrls}")
+    private String[] replicaUrls;
+
+    @Value("${app.replicaUsername:${spring.datasource.username}}")
+    private String replicaUsername;
+
+    @Value("${app.replicaPassword:${spring.datasource.password}}")
+    private String replicaPassword;
+
+    @Value("${app.replicaPoolSize:20}")
+    private int replicaPoolSize;
+
+    @Value("${app.replicaConnectionTimeoutMs:1000}")
+    private long replicaConnectionTimeoutMs;
+
+    @Value("${app.replicaMaxLagMs:5000}")
+    private long replicaMaxLagMs;
+
+    @Value("${app.replicaHealthCheckMs:1000}")
+    private long replicaHealthCheckMs;
+
+    @Value("${app.readYourWritesMs:6000}")
+    private long readYourWritesMs;
+
+    @Value("${app.readYourWritesMaxUsers:100000}")
+    private long readYourWritesMaxUsers;
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        return properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+    }
+
+    // A replica can fall up to maxLag plus one check interval behind before it leaves the rotation; a shorter
+    // window would send a writer back to a replica that has not seen the write yet
+    @Bean
+    public ReadYourWritesTracker readYourWritesTracker() {
+        if (readYourWritesMs < replicaMaxLagMs + replicaHealthCheckMs) {
+            throw new IllegalStateException("app.readYourWritesMs (" + readYourWritesMs + ") must be at least "
+                    + "app.replicaMaxLagMs + app.replicaHealthCheckMs (" + (replicaMaxLagMs + replicaHealthCheckMs)
+                    + ")");
+        }
+        return new ReadYourWritesTracker(readYourWritesMs, readYourWritesMaxUsers);
+    }
+
+    // Only injected by name, so nothing that asks for a DataSource gets the replicas directly
+    @Bean(defaultCandidate = false)
+    public ReplicaRoutingDataSource replicaRoutingDataSource(HikariDataSource primaryDataSource,
+                                                             ReadYourWritesTracker readYourWritesTracker,
+                                                             MeterRegistry meterRegistry) {
+        List<DataSource> replicas = new ArrayList<>();
+        for (int i = 0; i < replicaUrls.length; i++) {
+            HikariConfig config = new HikariConfig();
+            config.setPoolName("replica-" + (i + 1));
+            config.setJdbcUrl(replicaUrls[i].trim());
+            config.setUsername(replicaUsername);
+            config.setPassword(replicaPassword);
+            config.setMaximumPoolSize(replicaPoolSize);
+            config.setConnectionTimeout(replicaConnectionTimeoutMs);
+            config.setReadOnly(true);
+            // A replica that is down at startup is left to the health check instead of failing the boot
+            config.setInitializationFailTimeout(-1);
+            config.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(meterRegistry));
+            replicas.add(new HikariDataSource(config));
+        }
+        return new ReplicaRoutingDataSource(primaryDataSource, replicas, readYourWritesTracker, replicaMaxLagMs,
+                meterRegistry);
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(@Qualifier("replicaRoutingDataSource")
+                                 ReplicaRoutingDataSource replicaRoutingDataSource) {
+        return new LazyConnectionDataSourceProxy(replicaRoutingDataSource);
+    }
+
+    // Open-in-view keeps the session, and by default its connection, for the whole request; handing the connection
+    // back after each transaction lets a read-write transaction after a read-only one get a primary connection
+    @Bean
+    public HibernatePropertiesCustomizer replicaConnectionHandlingCustomizer() {
+        return properties -> properties.put(AvailableSettings.CONNECTION_HANDLING,
+                PhysicalConnectionHandlingMode.DELAYED_ACQUISITION_AND_RELEASE_AFTER_TRANSACTION);
+    }
+}
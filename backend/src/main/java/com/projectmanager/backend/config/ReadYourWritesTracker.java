@@ -0,0 +1,35 @@
+package com.projectmanager.backend.config;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.projectmanager.backend.service.EntityChangedEvent;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+
+/**
+ * Remembers the users who changed something in the last window, so their own reads stay on the primary
+ * until the replicas have had time to catch up. A zero window turns it off.
+ */
+public class ReadYourWritesTracker {
+
+    private final Cache<String, Boolean> recentWriters;
+
+    public ReadYourWritesTracker(long windowMs, long maxUsers) {
+        this.recentWriters = windowMs > 0
+                ? Caffeine.newBuilder().maximumSize(maxUsers).expireAfterWrite(Duration.ofMillis(windowMs)).build()
+                : null;
+    }
+
+    // After commit, so the window starts once the write is visible on the primary
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onEntityChanged(EntityChangedEvent event) {
+        if (recentWriters != null) {
+            recentWriters.put(event.userEmail(), Boolean.TRUE);
+        }
+    }
+
+    public boolean wroteRecently(String email) {
+        return recentWriters != null && email != null && recentWriters.getIfPresent(email) != null;
+    }
+}
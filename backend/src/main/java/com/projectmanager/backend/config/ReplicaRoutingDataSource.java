@@ -0,0 +1,206 @@
+package com.projectmanager.backend.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+import javax.sql.DataSource;
+import java.io.Closeable;
+import java.io.IOException;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Connections for read-only transactions come from the replicas, round robin over the ones currently healthy;
+ * everything else, and reads by a user who wrote something within the read-your-writes window, uses the primary.
+ * Each health check writes a heartbeat to the primary and reads it back from every replica: a replica that fails
+ * a checkout, cannot be reached or lags more than maxLagMs behind leaves the rotation until a later check passes,
+ * and with none left reads fall back to the primary. A lagging replica would otherwise feed stale rows to every
+ * user, and through them to the shared query cache and the ETags.
+ * <p>
+ * Within an HTTP request every read-only transaction goes to the same target: a controller that reads the ETag
+ * and then the body in separate transactions would otherwise pair a fresh replica's ETag with a lagging one's body,
+ * and the client would keep the stale body under the newer ETag.
+ */
+@Slf4j
+public class ReplicaRoutingDataSource extends AbstractDataSource implements DisposableBean {
+
+    private static final String WRITE_HEARTBEAT = "UPDATE replication_heartbeat SET beat_at = ? WHERE id = 1";
+    private static final String READ_HEARTBEAT = "SELECT beat_at FROM replication_heartbeat WHERE id = 1";
+    private static final String READ_TARGET = ReplicaRoutingDataSource.class.getName() + ".readTarget";
+
+    private final DataSource primary;
+    private final List<Replica> replicas = new ArrayList<>();
+    private final ReadYourWritesTracker readYourWrites;
+    private final long maxLagMs;
+    private final AtomicInteger next = new AtomicInteger();
+    private final Counter replicaReads;
+    private final Counter primaryReads;
+
+    public ReplicaRoutingDataSource(DataSource primary, List<DataSource> replicas,
+                                    ReadYourWritesTracker readYourWrites, long maxLagMs, MeterRegistry registry) {
+        this.primary = primary;
+        for (int i = 0; i < replicas.size(); i++) {
+            Replica replica = new Replica("replica-" + (i + 1), replicas.get(i));
+            this.replicas.add(replica);
+            Gauge.builder("app.datasource.replica.lag", replica, r -> r.lagMs / 1000.0)
+                    .tag("replica", replica.name)
+                    .baseUnit("seconds")
+                    .register(registry);
+        }
+        this.readYourWrites = readYourWrites;
+        this.maxLagMs = maxLagMs;
+        this.replicaReads = Counter.builder("app.datasource.reads").tag("target", "replica").register(registry);
+        this.primaryReads = Counter.builder("app.datasource.reads").tag("target", "primary").register(registry);
+        Gauge.builder("app.datasource.replicas.healthy", this, ReplicaRoutingDataSource::getHealthyReplicaCount)
+                .register(registry);
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            return primary.getConnection();
+        }
+        RequestAttributes request = RequestContextHolder.getRequestAttributes();
+        Object pinned = request != null ? request.getAttribute(READ_TARGET, RequestAttributes.SCOPE_REQUEST) : null;
+        if (pinned != primary && !readYourWrites.wroteRecently(currentUser())) {
+            if (pinned instanceof Replica replica && replica.healthy) {
+                try {
+                    Connection connection = replica.dataSource.getConnection();
+                    replicaReads.increment();
+                    return connection;
+                } catch (SQLException e) {
+                    markDown(replica, e.getMessage());
+                }
+            }
+            int start = next.getAndIncrement();
+            for (int i = 0; i < replicas.size(); i++) {
+                Replica replica = replicas.get(Math.floorMod(start + i, replicas.size()));
+                if (!replica.healthy) {
+                    continue;
+                }
+                try {
+                    Connection connection = replica.dataSource.getConnection();
+                    pin(request, replica);
+                    replicaReads.increment();
+                    return connection;
+                } catch (SQLException e) {
+                    markDown(replica, e.getMessage());
+                }
+            }
+        }
+        // Once on the primary, later reads in the request stay there: it is never behind a replica
+        pin(request, primary);
+        primaryReads.increment();
+        return primary.getConnection();
+    }
+
+    // Explicit credentials are the primary's; the replica pools only know their configured ones
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return primary.getConnection(username, password);
+    }
+
+    /**
+     * The measured lag includes up to one check interval, the age of the heartbeat when the check runs,
+     * so maxLagMs has to stay above app.replicaHealthCheckMs.
+     */
+    @Scheduled(fixedDelayString = "${app.replicaHealthCheckMs:1000}")
+    public void checkHealth() {
+        writeHeartbeat();
+        for (Replica replica : replicas) {
+            try (Connection connection = replica.dataSource.getConnection();
+                 PreparedStatement statement = connection.prepareStatement(READ_HEARTBEAT);
+                 ResultSet resultSet = statement.executeQuery()) {
+                if (!resultSet.next()) {
+                    throw new SQLException("No replication heartbeat");
+                }
+                replica.lagMs = Math.max(0, Duration.between(resultSet.getTimestamp(1).toLocalDateTime(),
+                        LocalDateTime.now()).toMillis());
+            } catch (SQLException e) {
+                markDown(replica, e.getMessage());
+                continue;
+            }
+            if (replica.lagMs > maxLagMs) {
+                markDown(replica, "Lagging " + replica.lagMs + " ms behind the primary");
+            } else if (!replica.healthy) {
+                replica.healthy = true;
+                log.info("Replica back in rotation. Name: {}, Lag: {} ms", replica.name, replica.lagMs);
+            }
+        }
+    }
+
+    public int getHealthyReplicaCount() {
+        return (int) replicas.stream().filter(replica -> replica.healthy).count();
+    }
+
+    @Override
+    public void destroy() throws IOException {
+        for (Replica replica : replicas) {
+            if (replica.dataSource instanceof Closeable closeable) {
+                closeable.close();
+            }
+        }
+    }
+
+    // A primary that cannot take the heartbeat leaves the replicas aging, so they drop out on lag
+    private void writeHeartbeat() {
+        try (Connection connection = primary.getConnection();
+             PreparedStatement statement = connection.prepareStatement(WRITE_HEARTBEAT)) {
+            statement.setTimestamp(1, Timestamp.valueOf(LocalDateTime.now()));
+            statement.executeUpdate();
+            if (!connection.getAutoCommit()) {
+                connection.commit();
+            }
+        } catch (SQLException e) {
+            log.warn("Replication heartbeat not written. Error: {}", e.getMessage());
+        }
+    }
+
+    private static void markDown(Replica replica, String reason) {
+        if (replica.healthy) {
+            replica.healthy = false;
+            log.warn("Replica taken out of rotation. Name: {}, Reason: {}", replica.name, reason);
+        }
+    }
+
+    private static void pin(RequestAttributes request, Object target) {
+        if (request != null) {
+            request.setAttribute(READ_TARGET, target, RequestAttributes.SCOPE_REQUEST);
+        }
+    }
+
+    private static String currentUser() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        return authentication != null ? authentication.getName() : null;
+    }
+
+    private static final class Replica {
+        private final String name;
+        private final DataSource dataSource;
+        private volatile boolean healthy = true;
+        private volatile long lagMs;
+
+        private Replica(String name, DataSource dataSource) {
+            this.name = name;
+            this.dataSource = dataSource;
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package com.projectmanager.backend.config;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+/**
+ * JDBC statements issued on the current thread while a sampled request is being recorded.
+ * Prepared statements are keyed by their SQL, which already is the shape; plain statements have their
+ * literals replaced first so the same query with different values still counts as a repeat.
+ */
+public final class RequestStatements {
+    private static final ThreadLocal<RequestStatements> CURRENT = new ThreadLocal<>();
+    private static final Pattern STRING_LITERAL = Pattern.compile("'(?:[^']|'')*'");
+    private static final Pattern NUMBER_LITERAL = Pattern.compile("\\b\\d+(?:\\.\\d+)?\\b");
+
+    private final Map<String, Integer> counts = new HashMap<>();
+    private int total;
+
+    private RequestStatements() {
+    }
+
+    public static RequestStatements start() {
+        RequestStatements statements = new RequestStatements();
+        CURRENT.set(statements);
+        return statements;
+    }
+
+    // Null unless the thread is serving a sampled request, which is the common case in production
+    public static RequestStatements current() {
+        return CURRENT.get();
+    }
+
+    public void stop() {
+        CURRENT.remove();
+    }
+
+    void recordPrepared(String sql) {
+        total++;
+        counts.merge(sql, 1, Integer::sum);
+    }
+
+    void recordPlain(String sql) {
+        recordPrepared(NUMBER_LITERAL.matcher(STRING_LITERAL.matcher(sql).replaceAll("?")).replaceAll("?"));
+    }
+
+    public int getTotal() {
+        return total;
+    }
+
+    public int getMaxRepeats() {
+        int max = 0;
+        for (int count : counts.values()) {
+            max = Math.max(max, count);
+        }
+        return max;
+    }
+
+    // Most frequent shapes first, the top of the list is where an N+1 shows up
+    public List<Map.Entry<String, Integer>> getShapes(int limit) {
+        return counts.entrySet().stream()
+                .sorted(Map.Entry.<String, Integer>comparingByValue().reversed())
+                .limit(limit)
+                .map(shape -> Map.entry(shape.getKey(), shape.getValue()))
+                .toList();
+    }
+}
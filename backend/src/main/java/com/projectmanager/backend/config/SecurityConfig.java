@@ -1,8 +1,12 @@
 package com.projectmanager.backend.config;
 
 import com.projectmanager.backend.security.AuthTokenFilter;
+import com.projectmanager.backend.security.BoundedPasswordEncoder;
 import com.projectmanager.backend.security.UserDetailsServiceImpl;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.DispatcherType;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.authentication.AuthenticationManager;
@@ -10,7 +14,6 @@ import org.springframework.security.authentication.dao.DaoAuthenticationProvider
 import org.springframework.security.config.annotation.authentication.configuration.AuthenticationConfiguration;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.http.SessionCreationPolicy;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
@@ -26,10 +29,26 @@ public class SecurityConfig {
     private final UserDetailsServiceImpl userDetailsService;
     private final AuthTokenFilter authTokenFilter;
 
+    private final MeterRegistry meterRegistry;
+
+    @Value("${app.bcryptStrength:10}")
+    private int bcryptStrength;
+
+    @Value("${app.passwordHashThreads:2}")
+    private int passwordHashThreads;
+
+    @Value("${app.passwordHashQueueSize:32}")
+    private int passwordHashQueueSize;
+
+    @Value("${app.passwordHashTimeoutMs:3000}")
+    private long passwordHashTimeoutMs;
+
     @Bean
     public DaoAuthenticationProvider authenticationProvider() {
         DaoAuthenticationProvider authProvider = new DaoAuthenticationProvider(userDetailsService);
         authProvider.setPasswordEncoder(passwordEncoder());
+        // Rehashes on successful login when the stored hash is weaker than app.bcryptStrength
+        authProvider.setUserDetailsPasswordService(userDetailsService);
         return authProvider;
     }
 
@@ -40,7 +59,8 @@ public class SecurityConfig {
 
     @Bean
     public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+        return new BoundedPasswordEncoder(bcryptStrength, passwordHashThreads, passwordHashQueueSize,
+                passwordHashTimeoutMs, meterRegistry);
     }
 
     @Bean
@@ -51,7 +71,11 @@ public class SecurityConfig {
                 .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS)) // No
                                                                                                               // sessions
                 .authorizeHttpRequests(auth -> auth
+                        // Completion of streams already authorized on the original request
+                        .dispatcherTypeMatchers(DispatcherType.ASYNC, DispatcherType.ERROR).permitAll()
                         .requestMatchers("/api/auth/**").permitAll() // Allow Login/Register
+                        // Probes and the Prometheus scrape; actuator is mapped only on management.server.port
+                        .requestMatchers("/actuator/health", "/actuator/prometheus").permitAll()
                         .anyRequest().authenticated() // Protect everything else
                 );
 
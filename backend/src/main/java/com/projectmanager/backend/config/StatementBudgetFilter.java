@@ -0,0 +1,92 @@
+package com.projectmanager.backend.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.stream.Collectors;
+
+/**
+ * Records the JDBC statements of a sample of requests and flags the ones over the statement budget,
+ * or repeating one statement shape often enough to be an N+1.
+ * Flagged requests are logged with the endpoint and their SQL, and carry the same report in FLAGGED_ATTRIBUTE.
+ * The check runs after the response has been written, so it cannot fail the request itself; the test suite fails
+ * MockMvc requests that carry the attribute instead. Only the initial dispatch is recorded, not streamed bodies.
+ */
+@Slf4j
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 10)
+public class StatementBudgetFilter extends OncePerRequestFilter {
+    public static final String FLAGGED_ATTRIBUTE = StatementBudgetFilter.class.getName() + ".flagged";
+    private static final int LOGGED_SHAPES = 10;
+
+    private final int budget;
+    private final int repeatThreshold;
+    private final double sampleRate;
+    private final MeterRegistry registry;
+
+    public StatementBudgetFilter(@Value("${app.statementBudget:10}") int budget,
+                                 @Value("${app.statementRepeatThreshold:5}") int repeatThreshold,
+                                 @Value("${app.statementSampleRate:0.01}") double sampleRate,
+                                 MeterRegistry registry) {
+        this.budget = budget;
+        this.repeatThreshold = repeatThreshold;
+        this.sampleRate = sampleRate;
+        this.registry = registry;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return sampleRate <= 0 || (sampleRate < 1 && ThreadLocalRandom.current().nextDouble() >= sampleRate);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        RequestStatements statements = RequestStatements.start();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            statements.stop();
+        }
+        check(request, statements);
+    }
+
+    private void check(HttpServletRequest request, RequestStatements statements) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        String uri = pattern != null ? pattern.toString() : "UNKNOWN";
+        DistributionSummary.builder("app.statements").tag("uri", uri).register(registry)
+                .record(statements.getTotal());
+
+        boolean overBudget = statements.getTotal() > budget;
+        boolean repeated = statements.getMaxRepeats() >= repeatThreshold;
+        if (!overBudget && !repeated) {
+            return;
+        }
+        String reason = overBudget ? "budget" : "repeated";
+        Counter.builder("app.statements.flagged").tag("uri", uri).tag("reason", reason).register(registry)
+                .increment();
+        String endpoint = request.getMethod() + " " + uri;
+        String sql = statements.getShapes(LOGGED_SHAPES).stream()
+                .map(shape -> shape.getValue() + "x " + shape.getKey())
+                .collect(Collectors.joining("\n  ", "\n  ", ""));
+        log.warn("{}. Endpoint: {}, Statements: {}, Budget: {}, Max repeats: {}, SQL: {}",
+                overBudget ? "Statement budget exceeded" : "Repeated statement, possible N+1",
+                endpoint, statements.getTotal(), budget, statements.getMaxRepeats(), sql);
+        request.setAttribute(FLAGGED_ATTRIBUTE, endpoint + " ran " + statements.getTotal()
+                + " statements (budget " + budget + ", repeat threshold " + repeatThreshold + "):" + sql);
+    }
+}
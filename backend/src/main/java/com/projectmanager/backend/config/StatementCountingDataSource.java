@@ -0,0 +1,91 @@
+package com.projectmanager.backend.config;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Set;
+
+/**
+ * Counts every statement prepared or executed on connections taken while a request is being recorded,
+ * whether it comes from Hibernate or from plain JdbcTemplate code.
+ * Connections taken outside a recorded request are returned untouched, so unsampled traffic pays
+ * one ThreadLocal read per checkout and nothing per statement.
+ */
+public class StatementCountingDataSource extends DelegatingDataSource {
+    private static final Set<String> PREPARE_METHODS = Set.of("prepareStatement", "prepareCall");
+    private static final Set<String> EXECUTE_METHODS = Set.of("execute", "executeQuery", "executeUpdate",
+            "executeLargeUpdate", "addBatch");
+
+    public StatementCountingDataSource(DataSource targetDataSource) {
+        super(targetDataSource);
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return record(super.getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return record(super.getConnection(username, password));
+    }
+
+    private static Connection record(Connection connection) {
+        RequestStatements statements = RequestStatements.current();
+        if (statements == null) {
+            return connection;
+        }
+        return proxy(Connection.class, connection, (method, args) -> {
+            if (PREPARE_METHODS.contains(method.getName()) && args[0] instanceof String sql) {
+                statements.recordPrepared(sql);
+            }
+        }, (method, result) -> method.getName().equals("createStatement")
+                ? record((Statement) result, statements)
+                : result);
+    }
+
+    private static Statement record(Statement statement, RequestStatements statements) {
+        return proxy(Statement.class, statement, (method, args) -> {
+            if (EXECUTE_METHODS.contains(method.getName()) && args != null && args[0] instanceof String sql) {
+                statements.recordPlain(sql);
+            }
+        }, (method, result) -> result);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T proxy(Class<T> type, T target, BeforeCall before, AfterCall after) {
+        return (T) Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[] { type }, (proxy, method, args) -> {
+            // Identity semantics for the proxy itself, pools and Hibernate keep connections in maps
+            switch (method.getName()) {
+                case "equals":
+                    return proxy == args[0];
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                default:
+                    break;
+            }
+            before.accept(method, args);
+            try {
+                return after.apply(method, method.invoke(target, args));
+            } catch (InvocationTargetException e) {
+                throw e.getTargetException();
+            }
+        });
+    }
+
+    @FunctionalInterface
+    private interface BeforeCall {
+        void accept(Method method, Object[] args);
+    }
+
+    @FunctionalInterface
+    private interface AfterCall {
+        Object apply(Method method, Object result);
+    }
+}
@@ -0,0 +1,22 @@
+package com.projectmanager.backend.config;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.thread.Threading;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+/**
+ * Spring Boot ignores spring.threads.virtual.enabled below Java 21, so the virtual-threads profile would quietly
+ * run on platform threads and any measurement taken with it would be mislabelled. Refuse to start instead.
+ */
+@Configuration
+@ConditionalOnProperty(name = "spring.threads.virtual.enabled", havingValue = "true")
+public class VirtualThreadsConfig {
+
+    public VirtualThreadsConfig(Environment environment) {
+        if (!Threading.VIRTUAL.isActive(environment)) {
+            throw new IllegalStateException("spring.threads.virtual.enabled needs a Java 21+ runtime, this is "
+                    + System.getProperty("java.version"));
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package com.projectmanager.backend.config;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+@Configuration
+@RequiredArgsConstructor
+public class WebConfig implements WebMvcConfigurer {
+
+    // Only present in virtual-thread mode; with platform threads the Tomcat worker pool bounds concurrency
+    private final ObjectProvider<ConcurrencyLimitInterceptor> concurrencyLimitInterceptor;
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        // Event streams never touch the database and are capped by ChangeStreamService;
+        // auth is bounded by the password hashing queue so a login storm cannot use up the API permits
+        concurrencyLimitInterceptor.ifAvailable(interceptor -> registry.addInterceptor(interceptor)
+                .addPathPatterns("/api/**")
+                .excludePathPatterns("/api/events", "/api/auth/**"));
+    }
+}
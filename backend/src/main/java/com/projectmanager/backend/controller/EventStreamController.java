@@ -0,0 +1,34 @@
+package com.projectmanager.backend.controller;
+
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.projectmanager.backend.security.UserDetailsImpl;
+import com.projectmanager.backend.service.ChangeStreamService;
+import org.springframework.security.core.Authentication;
+
+import lombok.RequiredArgsConstructor;
+
+@RestController
+@RequestMapping("/api/events")
+@RequiredArgsConstructor
+public class EventStreamController {
+
+    private final ChangeStreamService changeStreamService;
+
+    // "change" events name the project or task that changed; "resync" means events were dropped
+    // and the client should catch up through /api/sync
+    @GetMapping(produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter events(Authentication authentication) {
+        return changeStreamService.subscribe(getUserEmail(authentication));
+    }
+
+    private String getUserEmail(Authentication authentication) {
+        UserDetailsImpl userDetails = (UserDetailsImpl) authentication.getPrincipal();
+        return userDetails.getUsername();
+    }
+
+}
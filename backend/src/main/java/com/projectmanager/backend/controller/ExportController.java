@@ -0,0 +1,55 @@
+package com.projectmanager.backend.controller;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import com.projectmanager.backend.security.UserDetailsImpl;
+import com.projectmanager.backend.service.ExportService;
+import org.springframework.security.core.Authentication;
+
+import lombok.RequiredArgsConstructor;
+import java.util.UUID;
+
+@RestController
+@RequestMapping("/api/export")
+@RequiredArgsConstructor
+public class ExportController {
+
+    private static final MediaType NDJSON = MediaType.parseMediaType("application/x-ndjson");
+    private static final MediaType CSV = MediaType.parseMediaType("text/csv");
+
+    private final ExportService exportService;
+
+    // Streams all projects and tasks of the caller, written while the rows are read; 503 when all export slots are busy
+    @GetMapping
+    public ResponseEntity<StreamingResponseBody> export(
+            @RequestParam(defaultValue = "ndjson") String format,
+            Authentication authentication) {
+        UUID userId = getUserId(authentication);
+        if ("csv".equalsIgnoreCase(format)) {
+            return ResponseEntity.ok()
+                    .contentType(CSV)
+                    .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"export.csv\"")
+                    .body(exportService.csvBody(userId));
+        }
+        if ("ndjson".equalsIgnoreCase(format)) {
+            return ResponseEntity.ok()
+                    .contentType(NDJSON)
+                    .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"export.ndjson\"")
+                    .body(exportService.ndjsonBody(userId));
+        }
+        throw new IllegalArgumentException("Unsupported export format: " + format);
+    }
+
+    private UUID getUserId(Authentication authentication) {
+        UserDetailsImpl userDetails = (UserDetailsImpl) authentication.getPrincipal();
+        return userDetails.getId();
+    }
+
+}
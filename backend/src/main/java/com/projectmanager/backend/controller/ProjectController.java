@@ -1,5 +1,6 @@
 package com.projectmanager.backend.controller;
 
+import org.springframework.http.CacheControl;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -10,8 +11,10 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
 import com.projectmanager.backend.dto.request.ProjectRequest;
+import com.projectmanager.backend.dto.response.CursorPageResponse;
 import com.projectmanager.backend.dto.response.ProjectResponse;
 import com.projectmanager.backend.security.UserDetailsImpl;
 import com.projectmanager.backend.service.ProjectService;
@@ -26,6 +29,9 @@ import org.springframework.data.domain.Page;
 @RequiredArgsConstructor
 public class ProjectController {
 
+    // Browsers keep the body but revalidate it with If-None-Match on every use
+    static final CacheControl REVALIDATE = CacheControl.noCache().cachePrivate();
+
     private final ProjectService projectService;
 
     @PostMapping
@@ -36,23 +42,52 @@ public class ProjectController {
         return ResponseEntity.ok(projectService.createProject(request, email));
     }
 
+    // Conditional GET: a matching If-None-Match gets a 304 before the page is queried
     @GetMapping
     public ResponseEntity<Page<ProjectResponse>> getUserProjects(
             @RequestParam(defaultValue = "") String search,
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "10") int limit,
+            Authentication authentication,
+            WebRequest webRequest) {
+
+        String email = getUserEmail(authentication);
+        String etag = projectService.getProjectListVersion(email);
+        if (webRequest.checkNotModified(etag)) {
+            return null;
+        }
+        return ResponseEntity.ok()
+                .cacheControl(REVALIDATE)
+                .eTag(etag)
+                .body(projectService.getUserProjects(email, search, page, limit));
+    }
+
+    // Keyset pagination: no COUNT query, cost independent of how deep the client pages
+    @GetMapping("/scroll")
+    public ResponseEntity<CursorPageResponse<ProjectResponse>> scrollUserProjects(
+            @RequestParam(defaultValue = "") String search,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "10") int limit,
             Authentication authentication) {
 
         String email = getUserEmail(authentication);
-        return ResponseEntity.ok(projectService.getUserProjects(email, search, page, limit));
+        return ResponseEntity.ok(projectService.scrollUserProjects(email, search, cursor, limit));
     }
 
     @GetMapping("/{id}")
     public ResponseEntity<ProjectResponse> getProjectById(
             @PathVariable UUID id,
-            Authentication authentication) {
+            Authentication authentication,
+            WebRequest webRequest) {
         String email = getUserEmail(authentication);
-        return ResponseEntity.ok(projectService.getProjectById(id, email));
+        String etag = String.valueOf(projectService.getProjectVersion(id, email));
+        if (webRequest.checkNotModified(etag)) {
+            return null;
+        }
+        return ResponseEntity.ok()
+                .cacheControl(REVALIDATE)
+                .eTag(etag)
+                .body(projectService.getProjectById(id, email));
     }
 
     @PutMapping("/{id}")
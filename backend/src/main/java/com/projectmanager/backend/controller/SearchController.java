@@ -0,0 +1,40 @@
+package com.projectmanager.backend.controller;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.projectmanager.backend.dto.response.SearchResultResponse;
+import com.projectmanager.backend.security.UserDetailsImpl;
+import com.projectmanager.backend.service.SearchService;
+import org.springframework.security.core.Authentication;
+
+import lombok.RequiredArgsConstructor;
+import java.util.List;
+import java.util.UUID;
+
+@RestController
+@RequestMapping("/api/search")
+@RequiredArgsConstructor
+public class SearchController {
+
+    private final SearchService searchService;
+
+    // Projects and tasks of the caller ranked by relevance, title matches first
+    @GetMapping
+    public ResponseEntity<List<SearchResultResponse>> search(
+            @RequestParam String q,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size,
+            Authentication authentication) {
+        return ResponseEntity.ok(searchService.search(getUserId(authentication), q, page, size));
+    }
+
+    private UUID getUserId(Authentication authentication) {
+        UserDetailsImpl userDetails = (UserDetailsImpl) authentication.getPrincipal();
+        return userDetails.getId();
+    }
+
+}
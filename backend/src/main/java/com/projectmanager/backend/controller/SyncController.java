@@ -0,0 +1,38 @@
+package com.projectmanager.backend.controller;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.projectmanager.backend.dto.response.SyncResponse;
+import com.projectmanager.backend.security.UserDetailsImpl;
+import com.projectmanager.backend.service.SyncService;
+import org.springframework.security.core.Authentication;
+
+import lombok.RequiredArgsConstructor;
+import java.util.UUID;
+
+@RestController
+@RequestMapping("/api/sync")
+@RequiredArgsConstructor
+public class SyncController {
+
+    private final SyncService syncService;
+
+    // Projects and tasks changed since the cursor; call again with the returned cursor while hasMore is set
+    @GetMapping
+    public ResponseEntity<SyncResponse> sync(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "200") int limit,
+            Authentication authentication) {
+        return ResponseEntity.ok(syncService.sync(getUserId(authentication), cursor, limit));
+    }
+
+    private UUID getUserId(Authentication authentication) {
+        UserDetailsImpl userDetails = (UserDetailsImpl) authentication.getPrincipal();
+        return userDetails.getId();
+    }
+
+}
@@ -1,5 +1,8 @@
 package com.projectmanager.backend.controller;
 
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -8,16 +11,27 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
+import com.projectmanager.backend.dto.request.BulkTaskUpdateRequest;
 import com.projectmanager.backend.dto.request.TaskRequest;
+import com.projectmanager.backend.dto.response.BulkTaskUpdateResponse;
+import com.projectmanager.backend.dto.response.CursorPageResponse;
+import com.projectmanager.backend.dto.response.TaskImportResponse;
 import com.projectmanager.backend.dto.response.TaskResponse;
 import com.projectmanager.backend.security.UserDetailsImpl;
+import com.projectmanager.backend.service.TaskImportService;
 import com.projectmanager.backend.service.TaskService;
 
+import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.core.Authentication;
+import java.io.InputStream;
+import java.time.LocalDate;
 import java.util.List;
 import java.util.UUID;
 
@@ -25,7 +39,10 @@ import java.util.UUID;
 @RequestMapping("/api")
 @RequiredArgsConstructor
 public class TaskController {
+    private static final MediaType CSV = MediaType.parseMediaType("text/csv");
+
     private final TaskService taskService;
+    private final TaskImportService taskImportService;
 
     @PostMapping("/projects/{projectId}/tasks")
     public ResponseEntity<TaskResponse> createTask(
@@ -36,12 +53,59 @@ public class TaskController {
         return ResponseEntity.ok(taskService.createTask(projectId, request, email));
     }
 
+    // The ETag covers the project version and the count, versions and last update of its tasks
     @GetMapping("/projects/{projectId}/tasks")
     public ResponseEntity<List<TaskResponse>> getTasksByProject(
             @PathVariable UUID projectId,
+            Authentication authentication,
+            WebRequest webRequest) {
+        String email = getUserEmail(authentication);
+        String etag = taskService.getTaskListVersion(projectId, email);
+        if (webRequest.checkNotModified(etag)) {
+            return null;
+        }
+        return ResponseEntity.ok()
+                .cacheControl(ProjectController.REVALIDATE)
+                .eTag(etag)
+                .body(taskService.getTasksByProject(projectId, email));
+    }
+
+    @GetMapping("/projects/{projectId}/tasks/scroll")
+    public ResponseEntity<CursorPageResponse<TaskResponse>> scrollTasksByProject(
+            @PathVariable UUID projectId,
+            @RequestParam(required = false) Boolean completed,
+            @RequestParam(defaultValue = "") String search,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate dueFrom,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate dueTo,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int limit,
+            Authentication authentication) {
+        String email = getUserEmail(authentication);
+        return ResponseEntity.ok(taskService.scrollTasksByProject(projectId, email, completed, search, dueFrom,
+                dueTo, cursor, limit));
+    }
+
+    // Body is read as a stream, rows are saved in batches while the upload is still arriving
+    @PostMapping(value = "/projects/{projectId}/tasks/import", consumes = { "application/x-ndjson", "text/csv" })
+    public ResponseEntity<TaskImportResponse> importTasks(
+            @PathVariable UUID projectId,
+            @RequestHeader(HttpHeaders.CONTENT_TYPE) String contentType,
+            InputStream body,
+            Authentication authentication) {
+        String email = getUserEmail(authentication);
+        TaskImportService.Format format = MediaType.parseMediaType(contentType).isCompatibleWith(CSV)
+                ? TaskImportService.Format.CSV
+                : TaskImportService.Format.NDJSON;
+        return ResponseEntity.ok(taskImportService.importTasks(projectId, format, body, email));
+    }
+
+    @PatchMapping("/projects/{projectId}/tasks")
+    public ResponseEntity<BulkTaskUpdateResponse> bulkUpdateTasks(
+            @PathVariable UUID projectId,
+            @Valid @RequestBody BulkTaskUpdateRequest request,
             Authentication authentication) {
         String email = getUserEmail(authentication);
-        return ResponseEntity.ok(taskService.getTasksByProject(projectId, email));
+        return ResponseEntity.ok(taskService.bulkUpdateTasks(projectId, request, email));
     }
 
     @PutMapping("/tasks/{taskId}")
@@ -0,0 +1,33 @@
+package com.projectmanager.backend.dto.request;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.FutureOrPresent;
+import jakarta.validation.constraints.Size;
+import lombok.Data;
+
+@Data
+public class BulkTaskUpdateRequest {
+    // Tasks are selected either by id or by filter, not both
+    @Size(max = 1000, message = "At most 1000 task ids per request")
+    private List<UUID> taskIds;
+
+    @Valid
+    private Filter filter;
+
+    // Changes to apply, null fields are left untouched
+    private Boolean isCompleted;
+
+    @FutureOrPresent(message = "Due date cannot be in the past")
+    private LocalDate dueDate;
+
+    // Null fields match every task, so an empty filter selects the whole project; dueBefore is exclusive
+    @Data
+    public static class Filter {
+        private Boolean isCompleted;
+        private LocalDate dueBefore;
+    }
+}
@@ -0,0 +1,12 @@
+package com.projectmanager.backend.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkTaskUpdateResponse {
+    private int updated;
+}
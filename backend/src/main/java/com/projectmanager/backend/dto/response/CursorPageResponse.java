@@ -0,0 +1,19 @@
+package com.projectmanager.backend.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CursorPageResponse<T> {
+    private List<T> items;
+    // Opaque cursor for the next page, null on the last page
+    private String nextCursor;
+    private boolean hasNext;
+}
@@ -1,5 +1,6 @@
 package com.projectmanager.backend.dto.response;
 
+import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import java.time.LocalDateTime;
@@ -7,6 +8,7 @@ import java.util.UUID;
 
 @Data
 @Builder
+@AllArgsConstructor
 public class ProjectResponse {
     private UUID id;
     private String title;
@@ -16,4 +18,14 @@ public class ProjectResponse {
     private int totalTasks;
     private int completedTasks;
     private double progressPercentage;
-}
\ No newline at end of file
+
+    // Used by JPQL constructor projections, progress is derived from the counters
+    public ProjectResponse(UUID id, String title, String description, LocalDateTime createdAt, int totalTasks,
+            int completedTasks) {
+        this(id, title, description, createdAt, totalTasks, completedTasks, progress(totalTasks, completedTasks));
+    }
+
+    public static double progress(int totalTasks, int completedTasks) {
+        return totalTasks == 0 ? 0 : ((double) completedTasks / totalTasks) * 100;
+    }
+}
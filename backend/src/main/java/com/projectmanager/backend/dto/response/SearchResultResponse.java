@@ -0,0 +1,21 @@
+package com.projectmanager.backend.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.UUID;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SearchResultResponse {
+    // "project" or "task"
+    private String type;
+    private UUID id;
+    private UUID projectId;
+    private String title;
+    private int score;
+}
@@ -0,0 +1,32 @@
+package com.projectmanager.backend.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.UUID;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SyncResponse {
+    // Current state of everything created or updated since the cursor
+    private List<ProjectResponse> projects;
+    private List<TaskResponse> tasks;
+    // A project tombstone also covers all of its tasks
+    private List<Tombstone> deleted;
+    private String cursor;
+    private boolean hasMore;
+
+    @Data
+    @AllArgsConstructor
+    public static class Tombstone {
+        // "project" or "task"
+        private String type;
+        private UUID id;
+        private UUID projectId;
+    }
+}
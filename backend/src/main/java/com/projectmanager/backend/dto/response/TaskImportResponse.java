@@ -0,0 +1,26 @@
+package com.projectmanager.backend.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskImportResponse {
+    private int imported;
+    private int failed;
+    // Capped, see TaskImportService.MAX_REPORTED_ERRORS
+    private List<RowError> errors;
+
+    @Data
+    @AllArgsConstructor
+    public static class RowError {
+        private long line;
+        private String message;
+    }
+}
@@ -1,5 +1,7 @@
 package com.projectmanager.backend.exception;
 
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.MethodArgumentNotValidException;
@@ -26,6 +28,28 @@ public class GlobalExceptionHandler {
                 .body(Map.of("message", e.getMessage()));
     }
 
+    // Handle Expired Sync Cursors (410), the client has to resynchronize from scratch
+    @ExceptionHandler(CursorExpiredException.class)
+    public ResponseEntity<Map<String, String>> handleCursorExpired(CursorExpiredException e) {
+        return ResponseEntity.status(HttpStatus.GONE)
+                .body(Map.of("message", e.getMessage()));
+    }
+
+    // Handle Concurrent Modification (409), the entity changed between read and write
+    @ExceptionHandler(OptimisticLockingFailureException.class)
+    public ResponseEntity<Map<String, String>> handleOptimisticLock(OptimisticLockingFailureException e) {
+        return ResponseEntity.status(HttpStatus.CONFLICT)
+                .body(Map.of("message", "Resource was modified concurrently, reload and retry"));
+    }
+
+    // Handle Saturation (503), the client should back off and retry
+    @ExceptionHandler(ServiceUnavailableException.class)
+    public ResponseEntity<Map<String, String>> handleUnavailable(ServiceUnavailableException e) {
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .body(Map.of("message", e.getMessage()));
+    }
+
     // Handle Validation Errors (400)
     @ExceptionHandler(MethodArgumentNotValidException.class)
     public ResponseEntity<Map<String, String>> handleValidation(MethodArgumentNotValidException e) {
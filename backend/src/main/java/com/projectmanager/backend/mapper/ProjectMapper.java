@@ -4,8 +4,6 @@ import org.springframework.stereotype.Component;
 import com.projectmanager.backend.dto.request.ProjectRequest;
 import com.projectmanager.backend.dto.response.ProjectResponse;
 import com.projectmanager.backend.model.Project;
-import com.projectmanager.backend.model.Task;
-import java.util.List;
 
 @Component
 public class ProjectMapper {
@@ -17,11 +15,10 @@ public class ProjectMapper {
     }
 
     public ProjectResponse toResponse(Project project) {
-        // progress calculation
-        List<Task> tasks = project.getTasks();
-        int total = (tasks == null) ? 0 : tasks.size();
-        int completed = (tasks == null) ? 0 : (int) tasks.stream().filter(Task::isCompleted).count();
-        double progress = total == 0 ? 0 : ((double) completed / total) * 100;
+        // progress calculation from the denormalized counters, the task collection is never loaded
+        int total = project.getTotalTasks();
+        int completed = project.getCompletedTasks();
+        double progress = ProjectResponse.progress(total, completed);
 
         return ProjectResponse.builder()
                 .id(project.getId())
@@ -3,6 +3,15 @@ package com.projectmanager.backend.model;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.NotBlank;
 import lombok.*;
+import com.projectmanager.backend.config.HibernateCacheConfig;
+import org.hibernate.annotations.ColumnDefault;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheLayout;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.annotations.QueryCacheLayout;
+import org.hibernate.annotations.UuidGenerator;
+import org.hibernate.type.SqlTypes;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
@@ -10,8 +19,13 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.UUID;
 
-@Table(name = "projects")
+@Table(name = "projects", indexes = {
+        @Index(name = "idx_projects_user_created", columnList = "user_id, created_at, id") })
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = HibernateCacheConfig.PROJECT_REGION)
+// Cached query results keep only the ids, so the counter writes need not invalidate them, see ProjectCounterRepository
+@QueryCacheLayout(layout = CacheLayout.SHALLOW)
 @Setter
 @Getter
 @NoArgsConstructor
@@ -20,7 +34,10 @@ import java.util.UUID;
 
 public class Project {
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
+    @GeneratedValue
+    @UuidGenerator(style = UuidGenerator.Style.VERSION_7)
+    @JdbcTypeCode(SqlTypes.BINARY)
+    @Column(length = 16)
     private UUID id;
 
     @NotBlank
@@ -36,15 +53,40 @@ public class Project {
     private User user;
 
     @OneToMany(mappedBy = "project", cascade = CascadeType.ALL, orphanRemoval = true, fetch = FetchType.LAZY)
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = HibernateCacheConfig.PROJECT_TASKS_REGION)
     @Builder.Default
     private List<Task> tasks = new ArrayList<>();
 
+    // Denormalized task counters, kept in sync by TaskService
+    @Column(name = "total_tasks", nullable = false)
+    @ColumnDefault("0")
+    @Builder.Default
+    private int totalTasks = 0;
+
+    @Column(name = "completed_tasks", nullable = false)
+    @ColumnDefault("0")
+    @Builder.Default
+    private int completedTasks = 0;
+
     @Column(name = "created_at", nullable = false, updatable = false)
     private LocalDateTime createdAt;
 
+    // Also bumped by the counter writes in ProjectCounterRepository, which bypass the entity lifecycle
+    @Version
+    private long version;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
     @PrePersist
     protected void onCreate() {
         this.createdAt = LocalDateTime.now();
+        this.updatedAt = this.createdAt;
+    }
+
+    @PreUpdate
+    protected void onUpdate() {
+        this.updatedAt = LocalDateTime.now();
     }
 
 }
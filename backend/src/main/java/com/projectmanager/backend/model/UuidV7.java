@@ -0,0 +1,31 @@
+package com.projectmanager.backend.model;
+
+import java.security.SecureRandom;
+import java.util.Random;
+import java.util.UUID;
+
+/**
+ * Time-ordered UUID version 7 (RFC 9562): 48-bit Unix milliseconds followed by random bits.
+ * Matches the ids Hibernate generates for the entities, for code that inserts rows without the persistence context.
+ */
+public final class UuidV7 {
+    private static final SecureRandom RANDOM = new SecureRandom();
+
+    private UuidV7() {
+    }
+
+    public static UUID generate() {
+        return generate(System.currentTimeMillis());
+    }
+
+    public static UUID generate(long epochMillis) {
+        return generate(epochMillis, RANDOM);
+    }
+
+    // Seeded variant for reproducible generated data
+    public static UUID generate(long epochMillis, Random random) {
+        long msb = (epochMillis << 16) | 0x7000L | (random.nextInt() & 0x0FFFL);
+        long lsb = (random.nextLong() & 0x3FFFFFFFFFFFFFFFL) | 0x8000000000000000L;
+        return new UUID(msb, lsb);
+    }
+}
@@ -0,0 +1,89 @@
+package com.projectmanager.backend.repository;
+
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.Cache;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Multi-row JDBC batch inserts of complete users, projects and tasks for dataset generation.
+ * Rows carry their final counters and timestamps; nothing is derived or indexed on the way in.
+ * Callers own the transaction and must call evictAll once loading is done.
+ */
+@Repository
+@RequiredArgsConstructor
+public class BulkLoadRepository {
+
+    private static final String INSERT_USER_SQL = "INSERT INTO users (id, email, password) VALUES (?, ?, ?)";
+
+    private static final String INSERT_PROJECT_SQL = "INSERT INTO projects "
+            + "(id, user_id, title, description, created_at, total_tasks, completed_tasks, version, updated_at) "
+            + "VALUES (?, ?, ?, ?, ?, ?, ?, 0, ?)";
+
+    private static final String INSERT_TASK_SQL = "INSERT INTO tasks "
+            + "(id, project_id, title, description, due_date, completed, created_at, version, updated_at) "
+            + "VALUES (?, ?, ?, ?, ?, ?, ?, 0, ?)";
+
+    public record UserRow(UUID id, String email, String password) {
+    }
+
+    public record ProjectRow(UUID id, UUID userId, String title, String description, LocalDateTime createdAt,
+            int totalTasks, int completedTasks) {
+    }
+
+    public record TaskRow(UUID id, UUID projectId, String title, String description, LocalDate dueDate,
+            boolean completed, LocalDateTime createdAt) {
+    }
+
+    private final JdbcTemplate jdbcTemplate;
+    private final EntityManagerFactory entityManagerFactory;
+
+    public void insertUsers(List<UserRow> users) {
+        jdbcTemplate.batchUpdate(INSERT_USER_SQL, users, users.size(), (ps, user) -> {
+            ps.setBytes(1, JdbcUuid.toBytes(user.id()));
+            ps.setString(2, user.email());
+            ps.setString(3, user.password());
+        });
+    }
+
+    public void insertProjects(List<ProjectRow> projects) {
+        jdbcTemplate.batchUpdate(INSERT_PROJECT_SQL, projects, projects.size(), (ps, project) -> {
+            Timestamp createdAt = Timestamp.valueOf(project.createdAt());
+            ps.setBytes(1, JdbcUuid.toBytes(project.id()));
+            ps.setBytes(2, JdbcUuid.toBytes(project.userId()));
+            ps.setString(3, project.title());
+            ps.setString(4, project.description());
+            ps.setTimestamp(5, createdAt);
+            ps.setInt(6, project.totalTasks());
+            ps.setInt(7, project.completedTasks());
+            ps.setTimestamp(8, createdAt);
+        });
+    }
+
+    public void insertTasks(List<TaskRow> tasks) {
+        jdbcTemplate.batchUpdate(INSERT_TASK_SQL, tasks, tasks.size(), (ps, task) -> {
+            Timestamp createdAt = Timestamp.valueOf(task.createdAt());
+            ps.setBytes(1, JdbcUuid.toBytes(task.id()));
+            ps.setBytes(2, JdbcUuid.toBytes(task.projectId()));
+            ps.setString(3, task.title());
+            ps.setString(4, task.description());
+            ps.setDate(5, Date.valueOf(task.dueDate()));
+            ps.setBoolean(6, task.completed());
+            ps.setTimestamp(7, createdAt);
+            ps.setTimestamp(8, createdAt);
+        });
+    }
+
+    // Hibernate has not seen any of the loaded rows, so every cached entity and query result may be stale
+    public void evictAll() {
+        entityManagerFactory.getCache().unwrap(Cache.class).evictAllRegions();
+    }
+}
@@ -0,0 +1,101 @@
+package com.projectmanager.backend.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * JDBC access to the change_log table behind delta sync.
+ * Appends join the caller's transaction, so a change is logged exactly when it commits.
+ */
+@Repository
+@RequiredArgsConstructor
+public class ChangeLogRepository {
+    public static final char PROJECT = 'P';
+    public static final char TASK = 'T';
+    public static final char UPSERT = 'U';
+    public static final char DELETE = 'D';
+
+    private static final String INSERT_SQL = "INSERT INTO change_log "
+            + "(owner_id, entity_type, entity_id, project_id, op, changed_at) VALUES (?, ?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public void append(List<Change> changes) {
+        if (changes.isEmpty()) {
+            return;
+        }
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.batchUpdate(INSERT_SQL, changes, changes.size(), (ps, change) -> {
+            ps.setBytes(1, JdbcUuid.toBytes(change.ownerId()));
+            ps.setString(2, String.valueOf(change.entityType()));
+            ps.setBytes(3, JdbcUuid.toBytes(change.entityId()));
+            ps.setBytes(4, JdbcUuid.toBytes(change.projectId()));
+            ps.setString(5, String.valueOf(change.op()));
+            ps.setTimestamp(6, now);
+        });
+    }
+
+    // Logs every task of the project stamped by a bulk update, plus the project itself
+    public void appendTasksUpdatedAt(UUID projectId, LocalDateTime updatedAt) {
+        byte[] project = JdbcUuid.toBytes(projectId);
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.update("INSERT INTO change_log (owner_id, entity_type, entity_id, project_id, op, changed_at) "
+                + "SELECT p.user_id, 'T', t.id, t.project_id, 'U', ? FROM tasks t "
+                + "JOIN projects p ON p.id = t.project_id WHERE t.project_id = ? AND t.updated_at = ?",
+                now, project, Timestamp.valueOf(updatedAt));
+        jdbcTemplate.update("INSERT INTO change_log (owner_id, entity_type, entity_id, project_id, op, changed_at) "
+                + "SELECT p.user_id, 'P', p.id, p.id, 'U', ? FROM projects p WHERE p.id = ?", now, project);
+    }
+
+    // Served by idx_change_log_owner_seq, cost grows with the changes read, not with the data owned
+    public List<Entry> findAfter(UUID ownerId, long seq, int limit) {
+        return jdbcTemplate.query("SELECT seq, entity_type, entity_id, project_id, op, changed_at FROM change_log "
+                + "WHERE owner_id = ? AND seq > ? ORDER BY seq LIMIT ?",
+                (rs, rowNum) -> new Entry(rs.getLong(1), rs.getString(2).charAt(0), JdbcUuid.read(rs, 3),
+                        JdbcUuid.read(rs, 4), rs.getString(5).charAt(0), rs.getTimestamp(6).toLocalDateTime()),
+                JdbcUuid.toBytes(ownerId), seq, limit);
+    }
+
+    // Walks idx_change_log_owner_seq backwards from the owner's latest entry, so it only reads the entries newer
+    // than the cutoff
+    public long findLastSeqAtOrBefore(UUID ownerId, LocalDateTime cutoff) {
+        List<Long> seq = jdbcTemplate.queryForList("SELECT seq FROM change_log "
+                + "WHERE owner_id = ? AND changed_at <= ? ORDER BY seq DESC LIMIT 1",
+                Long.class, JdbcUuid.toBytes(ownerId), Timestamp.valueOf(cutoff));
+        return seq.isEmpty() ? 0 : seq.get(0);
+    }
+
+    public long findPrunedThrough() {
+        return jdbcTemplate.queryForObject("SELECT pruned_through FROM change_log_pruned WHERE id = 1", Long.class);
+    }
+
+    public long findLastSeqBefore(LocalDateTime cutoff) {
+        Long seq = jdbcTemplate.queryForObject("SELECT MAX(seq) FROM change_log WHERE changed_at < ?", Long.class,
+                Timestamp.valueOf(cutoff));
+        return seq == null ? 0 : seq;
+    }
+
+    // Cursors at or before this position are refused from now on
+    public void markPrunedThrough(long seq) {
+        jdbcTemplate.update("UPDATE change_log_pruned SET pruned_through = ? WHERE id = 1 AND pruned_through < ?",
+                seq, seq);
+    }
+
+    // Deletes up to limit entries at or before seq; the caller repeats until fewer come back
+    public int deleteThrough(long seq, int limit) {
+        return jdbcTemplate.update("DELETE FROM change_log WHERE seq <= ? LIMIT ?", seq, limit);
+    }
+
+    public record Change(UUID ownerId, char entityType, UUID entityId, UUID projectId, char op) {
+    }
+
+    public record Entry(long seq, char entityType, UUID entityId, UUID projectId, char op,
+            LocalDateTime changedAt) {
+    }
+}
@@ -0,0 +1,73 @@
+package com.projectmanager.backend.repository;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+/**
+ * Streams a user's projects joined with their tasks through a forward-only cursor.
+ * Rows are handed to the consumer one at a time, nothing is accumulated in memory.
+ */
+@Repository
+public class ExportRepository {
+
+    // Driven by idx_projects_user_created, so rows arrive grouped by project without a sort
+    private static final String EXPORT_SQL = "SELECT p.id, p.title, p.description, p.created_at, "
+            + "t.id, t.title, t.description, t.due_date, t.completed "
+            + "FROM projects p LEFT JOIN tasks t ON t.project_id = p.id "
+            + "WHERE p.user_id = ? ORDER BY p.created_at, p.id";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final int fetchSize;
+
+    public ExportRepository(DataSource dataSource, @Value("${app.exportFetchSize:1000}") int fetchSize) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.fetchSize = fetchSize;
+    }
+
+    public void forEachRow(UUID userId, Consumer<Row> consumer) {
+        jdbcTemplate.query(con -> {
+            PreparedStatement statement = con.prepareStatement(EXPORT_SQL, ResultSet.TYPE_FORWARD_ONLY,
+                    ResultSet.CONCUR_READ_ONLY);
+            statement.setFetchSize(streamingFetchSize(con));
+            statement.setBytes(1, JdbcUuid.toBytes(userId));
+            return statement;
+        }, rs -> {
+            Timestamp createdAt = rs.getTimestamp(4);
+            Date dueDate = rs.getDate(8);
+            consumer.accept(new Row(
+                    JdbcUuid.read(rs, 1),
+                    rs.getString(2),
+                    rs.getString(3),
+                    createdAt != null ? createdAt.toLocalDateTime() : null,
+                    JdbcUuid.read(rs, 5),
+                    rs.getString(6),
+                    rs.getString(7),
+                    dueDate != null ? dueDate.toLocalDate() : null,
+                    rs.getBoolean(9)));
+        });
+    }
+
+    // Connector/J buffers the whole result unless the fetch size is Integer.MIN_VALUE, which streams this one
+    // statement row by row; the pool's other connections keep the driver's default buffered reads
+    private int streamingFetchSize(Connection con) throws SQLException {
+        return "MySQL".equals(con.getMetaData().getDatabaseProductName()) ? Integer.MIN_VALUE : fetchSize;
+    }
+
+    // One project/task pair; the task columns are null for projects without tasks
+    public record Row(UUID projectId, String projectTitle, String projectDescription, LocalDateTime projectCreatedAt,
+            UUID taskId, String taskTitle, String taskDescription, LocalDate taskDueDate, boolean taskCompleted) {
+    }
+}
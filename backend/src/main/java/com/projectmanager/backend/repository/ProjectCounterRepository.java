@@ -0,0 +1,91 @@
+package com.projectmanager.backend.repository;
+
+import com.projectmanager.backend.config.HibernateCacheConfig;
+import com.projectmanager.backend.model.Project;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.Cache;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Writes the denormalized task counters on projects with JDBC, then drops only what they change: the project's
+ * cache entry and the cached list ETags. A JPQL bulk update would evict the whole project region and invalidate
+ * every cached query over projects, so each task write would empty every user's dashboard cache.
+ * The cached project queries return entities, which the query cache keeps as ids, so they pick up the new
+ * counters from the entity cache. Each write bumps the version, moving the project's ETag.
+ * Callers own the transaction; the evictions run again after it completes, so a read that cached the old row
+ * while the write was uncommitted does not outlive it.
+ */
+@Repository
+@RequiredArgsConstructor
+public class ProjectCounterRepository {
+
+    private static final String ADJUST_SQL = "UPDATE projects SET total_tasks = total_tasks + ?, "
+            + "completed_tasks = completed_tasks + ?, version = version + 1, updated_at = ? WHERE id = ?";
+    private static final String TOTAL = "(SELECT COUNT(*) FROM tasks t WHERE t.project_id = projects.id)";
+    private static final String COMPLETED = "(SELECT COUNT(*) FROM tasks t WHERE t.project_id = projects.id "
+            + "AND t.completed = TRUE)";
+    // Projects whose counters are already right keep their version and ETag
+    private static final String RECOMPUTE_SQL = "UPDATE projects SET total_tasks = " + TOTAL
+            + ", completed_tasks = " + COMPLETED + ", version = version + 1, updated_at = ? "
+            + "WHERE id = ? AND (total_tasks <> " + TOTAL + " OR completed_tasks <> " + COMPLETED + ")";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final EntityManagerFactory entityManagerFactory;
+
+    // Atomic in-database increment, so concurrent task mutations cannot lose updates
+    public int adjustTaskCounters(UUID projectId, int totalDelta, int completedDelta) {
+        int updated = jdbcTemplate.update(ADJUST_SQL, totalDelta, completedDelta,
+                Timestamp.valueOf(LocalDateTime.now()), JdbcUuid.toBytes(projectId));
+        evictAfterCompletion(List.of(projectId));
+        return updated;
+    }
+
+    public int recomputeTaskCounters(Collection<UUID> projectIds) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        int[][] counts = jdbcTemplate.batchUpdate(RECOMPUTE_SQL, List.copyOf(projectIds), projectIds.size(),
+                (ps, projectId) -> {
+                    ps.setTimestamp(1, now);
+                    ps.setBytes(2, JdbcUuid.toBytes(projectId));
+                });
+        int repaired = 0;
+        for (int[] batch : counts) {
+            for (int count : batch) {
+                repaired += count;
+            }
+        }
+        if (repaired > 0) {
+            evictAfterCompletion(projectIds);
+        }
+        return repaired;
+    }
+
+    private void evictAfterCompletion(Collection<UUID> projectIds) {
+        evict(projectIds);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    evict(projectIds);
+                }
+            });
+        }
+    }
+
+    private void evict(Collection<UUID> projectIds) {
+        Cache cache = entityManagerFactory.getCache().unwrap(Cache.class);
+        for (UUID projectId : projectIds) {
+            cache.evictEntityData(Project.class, projectId);
+        }
+        cache.evictQueryRegion(HibernateCacheConfig.PROJECT_VERSION_QUERY_REGION);
+    }
+}
@@ -1,28 +1,115 @@
 package com.projectmanager.backend.repository;
 
-import org.springframework.data.jpa.repository.EntityGraph;
+import com.projectmanager.backend.config.HibernateCacheConfig;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.repository.query.Param;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
+import com.projectmanager.backend.dto.response.ProjectResponse;
 import com.projectmanager.backend.model.Project;
-import java.util.Optional;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
 public interface ProjectRepository extends JpaRepository<Project, UUID> {
 
-    // @Query("SELECT DISTINCT p FROM Project p LEFT JOIN FETCH p.tasks WHERE
-    // p.user.email = :email")
-    // List<Project> findByUserEmail(@Param("email") String email);
+    // Read queries project straight into ProjectResponse, no managed entities are created
+    String PROJECT_RESPONSE = "SELECT new com.projectmanager.backend.dto.response.ProjectResponse("
+            + "p.id, p.title, p.description, p.createdAt, p.totalTasks, p.completedTasks) FROM Project p ";
+
+    // Dashboard reads go through the query cache; any write to projects or users through Hibernate invalidates
+    // them. They return entities, cached as ids, so the JDBC counter writes only need to evict the project entry
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
+    @Query("SELECT p FROM Project p WHERE p.id = :id AND p.user.email = :email")
+    Optional<Project> findCachedByIdAndUserEmail(@Param("id") UUID id, @Param("email") String email);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
+    @Query(value = "SELECT p FROM Project p WHERE p.user.email = :email",
+            countQuery = "SELECT COUNT(p) FROM Project p WHERE p.user.email = :email")
+    Page<Project> findCachedByUserEmail(@Param("email") String email, Pageable pageable);
+
+    @Query(value = PROJECT_RESPONSE + "WHERE p.user.email = :email "
+            + "AND LOWER(p.title) LIKE LOWER(CONCAT('%', :search, '%'))",
+            countQuery = "SELECT COUNT(p) FROM Project p WHERE p.user.email = :email "
+                    + "AND LOWER(p.title) LIKE LOWER(CONCAT('%', :search, '%'))")
+    Page<ProjectResponse> findResponsesByUserEmailAndTitleContaining(@Param("email") String email,
+            @Param("search") String search, Pageable pageable);
+
+    // Candidates come from the search index; the LIKE only discards trigram false positives among them
+    @Query(value = PROJECT_RESPONSE + "WHERE p.id IN :ids AND p.user.email = :email "
+            + "AND LOWER(p.title) LIKE LOWER(CONCAT('%', :search, '%'))",
+            countQuery = "SELECT COUNT(p) FROM Project p WHERE p.id IN :ids AND p.user.email = :email "
+                    + "AND LOWER(p.title) LIKE LOWER(CONCAT('%', :search, '%'))")
+    Page<ProjectResponse> findResponsesByIdInAndTitleContaining(@Param("ids") Collection<UUID> ids,
+            @Param("email") String email, @Param("search") String search, Pageable pageable);
+
+    // Keyset page ordered by (createdAt, id) descending; a null createdAt starts from the newest project
+    @Query(PROJECT_RESPONSE + "WHERE p.user.email = :email "
+            + "AND (:search IS NULL OR LOWER(p.title) LIKE LOWER(CONCAT('%', :search, '%'))) "
+            + "AND (:createdAt IS NULL OR p.createdAt < :createdAt OR (p.createdAt = :createdAt AND p.id < :id)) "
+            + "ORDER BY p.createdAt DESC, p.id DESC")
+    List<ProjectResponse> findPageByUserEmailBefore(@Param("email") String email, @Param("search") String search,
+            @Param("createdAt") LocalDateTime createdAt, @Param("id") UUID id, Limit limit);
+
+    @Query(PROJECT_RESPONSE + "WHERE p.id IN :ids")
+    List<ProjectResponse> findResponsesByIdIn(@Param("ids") Collection<UUID> ids);
+
+    boolean existsByIdAndUserEmail(UUID id, String email);
+
+    // ETag source: a cheap lookup answered before any response body is built.
+    // Any create, update or delete changes the count, the version sum or the latest update time
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION,
+                    value = HibernateCacheConfig.PROJECT_VERSION_QUERY_REGION)
+    })
+    @Query("SELECT COUNT(p) AS count, SUM(p.version) AS versionSum, MAX(p.updatedAt) AS lastUpdated "
+            + "FROM Project p WHERE p.user.email = :email")
+    ListVersion findListVersionByUserEmail(@Param("email") String email);
+
+    interface ListVersion {
+        long getCount();
+
+        Long getVersionSum();
+
+        LocalDateTime getLastUpdated();
+    }
+
+    // Creates and deletes move the project version through the counters, edits move the task versions
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = HibernateCacheConfig.TASK_QUERY_REGION)
+    })
+    @Query("SELECT p.version AS projectVersion, COUNT(t) AS count, SUM(t.version) AS versionSum, "
+            + "MAX(t.updatedAt) AS lastUpdated FROM Project p LEFT JOIN Task t ON t.project = p "
+            + "WHERE p.id = :id AND p.user.email = :email GROUP BY p.id, p.version")
+    Optional<TaskListVersion> findTaskListVersionByIdAndUserEmail(@Param("id") UUID id,
+            @Param("email") String email);
+
+    interface TaskListVersion extends ListVersion {
+        long getProjectVersion();
+    }
+
+    // Ownership check that also yields the owner id, read from the FK column
+    @Query("SELECT p.user.id FROM Project p WHERE p.id = :id AND p.user.email = :email")
+    Optional<UUID> findOwnerIdByIdAndUserEmail(@Param("id") UUID id, @Param("email") String email);
 
-    @Query("SELECT p FROM Project p LEFT JOIN FETCH p.tasks WHERE p.id = :id")
-    Optional<Project> findByIdWithTasks(@Param("id") UUID id);
+    // Existence and ownership in one query joined on the owner
+    Optional<Project> findByIdAndUserEmail(UUID id, String email);
 
-    @EntityGraph(attributePaths = "tasks")
-    Page<Project> findByUserEmailAndTitleContainingIgnoreCase(String email, String title, Pageable pageable);
+    @Modifying
+    @Query("DELETE FROM Project p WHERE p.id = :id")
+    int deleteProjectById(@Param("id") UUID id);
 
-    @EntityGraph(attributePaths = "tasks")
-    Page<Project> findByUserEmail(String email, Pageable pageable);
+    @Query("SELECT p.id FROM Project p WHERE p.id > :after ORDER BY p.id")
+    List<UUID> findIdsAfter(@Param("after") UUID after, Limit limit);
 
 }
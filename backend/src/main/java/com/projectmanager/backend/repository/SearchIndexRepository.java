@@ -0,0 +1,139 @@
+package com.projectmanager.backend.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Repository;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+/**
+ * JDBC access to the search_terms inverted index.
+ * Writes join the caller's transaction, so the index commits or rolls back with the entity change.
+ */
+@Repository
+@RequiredArgsConstructor
+public class SearchIndexRepository {
+    public static final char PROJECT = 'P';
+    public static final char TASK = 'T';
+    public static final char TITLE = 'T';
+    public static final char DESCRIPTION = 'D';
+
+    private static final String INSERT_SQL = "INSERT INTO search_terms "
+            + "(owner_id, term, entity_id, field, entity_type, project_id) VALUES (?, ?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public void insert(List<Entry> entries) {
+        if (entries.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(INSERT_SQL, entries, entries.size(), (ps, entry) -> {
+            ps.setBytes(1, JdbcUuid.toBytes(entry.ownerId()));
+            ps.setBytes(2, entry.term().getBytes(StandardCharsets.UTF_8));
+            ps.setBytes(3, JdbcUuid.toBytes(entry.entityId()));
+            ps.setString(4, String.valueOf(entry.field()));
+            ps.setString(5, String.valueOf(entry.entityType()));
+            ps.setBytes(6, JdbcUuid.toBytes(entry.projectId()));
+        });
+    }
+
+    public void deleteEntity(UUID entityId) {
+        jdbcTemplate.update("DELETE FROM search_terms WHERE entity_id = ?", (Object) JdbcUuid.toBytes(entityId));
+    }
+
+    // Removes a project and all of its tasks
+    public void deleteProject(UUID projectId) {
+        jdbcTemplate.update("DELETE FROM search_terms WHERE project_id = ?", (Object) JdbcUuid.toBytes(projectId));
+    }
+
+    /**
+     * Ranked matches for the owner: title hits weigh 3, description hits 1.
+     * An entity must contain at least minMatched of the distinct query terms.
+     */
+    public List<Match> search(UUID ownerId, Collection<String> terms, int minMatched, int limit, long offset) {
+        List<Object> args = new ArrayList<>();
+        args.add(JdbcUuid.toBytes(ownerId));
+        terms.forEach(term -> args.add(term.getBytes(StandardCharsets.UTF_8)));
+        args.add(minMatched);
+        args.add(limit);
+        args.add(offset);
+        String sql = "SELECT r.entity_type, r.entity_id, r.project_id, r.score, COALESCE(p.title, t.title) "
+                + "FROM (SELECT s.entity_type, s.entity_id, s.project_id, "
+                + "SUM(CASE WHEN s.field = 'T' THEN 3 ELSE 1 END) AS score "
+                + "FROM search_terms s WHERE s.owner_id = ? AND s.term IN (" + placeholders(terms.size()) + ") "
+                + "GROUP BY s.entity_type, s.entity_id, s.project_id "
+                + "HAVING COUNT(DISTINCT s.term) >= ?) r "
+                + "LEFT JOIN projects p ON r.entity_type = 'P' AND p.id = r.entity_id "
+                + "LEFT JOIN tasks t ON r.entity_type = 'T' AND t.id = r.entity_id "
+                + "ORDER BY r.score DESC, r.entity_id LIMIT ? OFFSET ?";
+        return jdbcTemplate.query(sql, (rs, rowNum) -> new Match(
+                rs.getString(1).charAt(0),
+                JdbcUuid.read(rs, 2),
+                JdbcUuid.read(rs, 3),
+                rs.getInt(4),
+                rs.getString(5)), args.toArray());
+    }
+
+    // Projects of the owner whose title contains every term; returns at most limit ids
+    public List<UUID> findProjectIdsByTitle(String ownerEmail, Collection<String> terms, int limit) {
+        if (terms.isEmpty()) {
+            return Collections.emptyList();
+        }
+        List<Object> args = new ArrayList<>();
+        args.add(ownerEmail);
+        terms.forEach(term -> args.add(term.getBytes(StandardCharsets.UTF_8)));
+        args.add(terms.size());
+        args.add(limit);
+        String sql = "SELECT s.entity_id FROM search_terms s JOIN users u ON u.id = s.owner_id "
+                + "WHERE u.email = ? AND s.entity_type = 'P' AND s.field = 'T' "
+                + "AND s.term IN (" + placeholders(terms.size()) + ") "
+                + "GROUP BY s.entity_id HAVING COUNT(*) = ? LIMIT ?";
+        return jdbcTemplate.query(sql, (rs, rowNum) -> JdbcUuid.read(rs, 1), args.toArray());
+    }
+
+    // Source rows for rebuilding the index of a batch of projects, tasks included
+    public void forEachSource(Collection<UUID> projectIds, Consumer<Source> consumer) {
+        Object[] ids = projectIds.stream().map(JdbcUuid::toBytes).toArray();
+        String in = placeholders(projectIds.size());
+        jdbcTemplate.query("SELECT p.user_id, p.id, p.title, p.description FROM projects p WHERE p.id IN (" + in + ")",
+                (RowCallbackHandler) rs -> {
+                    UUID projectId = JdbcUuid.read(rs, 2);
+                    consumer.accept(new Source(JdbcUuid.read(rs, 1), PROJECT, projectId, projectId,
+                            rs.getString(3), rs.getString(4)));
+                }, ids);
+        jdbcTemplate.query("SELECT p.user_id, t.id, t.project_id, t.title, t.description FROM tasks t "
+                + "JOIN projects p ON p.id = t.project_id WHERE t.project_id IN (" + in + ")",
+                (RowCallbackHandler) rs -> consumer.accept(new Source(JdbcUuid.read(rs, 1), TASK, JdbcUuid.read(rs, 2),
+                        JdbcUuid.read(rs, 3), rs.getString(4), rs.getString(5))), ids);
+    }
+
+    // Version the stored terms were built with, 0 when they have never been built or are known to be incomplete
+    public int findIndexVersion() {
+        return jdbcTemplate.queryForObject("SELECT index_version FROM search_index_state WHERE id = 1", Integer.class);
+    }
+
+    public void saveIndexVersion(int version) {
+        jdbcTemplate.update("UPDATE search_index_state SET index_version = ? WHERE id = 1", version);
+    }
+
+    private static String placeholders(int count) {
+        return String.join(", ", Collections.nCopies(count, "?"));
+    }
+
+    public record Entry(UUID ownerId, String term, UUID entityId, char field, char entityType, UUID projectId) {
+    }
+
+    public record Match(char entityType, UUID entityId, UUID projectId, int score, String title) {
+    }
+
+    public record Source(UUID ownerId, char entityType, UUID entityId, UUID projectId, String title,
+            String description) {
+    }
+}
@@ -0,0 +1,56 @@
+package com.projectmanager.backend.repository;
+
+import com.projectmanager.backend.config.HibernateCacheConfig;
+import com.projectmanager.backend.model.Project;
+import com.projectmanager.backend.model.Task;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.Cache;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Inserts tasks with JDBC batches, bypassing the persistence context.
+ * Callers own the transaction, must keep the project task counters in sync
+ * and must call evictCachedTasks after commit, since Hibernate does not see these writes.
+ */
+@Repository
+@RequiredArgsConstructor
+public class TaskImportRepository {
+
+    private static final String INSERT_SQL = "INSERT INTO tasks "
+            + "(id, project_id, title, description, due_date, completed, created_at, updated_at) "
+            + "VALUES (?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final EntityManagerFactory entityManagerFactory;
+
+    public void insertBatch(UUID projectId, List<Task> tasks) {
+        byte[] project = JdbcUuid.toBytes(projectId);
+        Timestamp createdAt = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.batchUpdate(INSERT_SQL, tasks, tasks.size(), (ps, task) -> {
+            ps.setBytes(1, JdbcUuid.toBytes(task.getId()));
+            ps.setBytes(2, project);
+            ps.setString(3, task.getTitle());
+            ps.setString(4, task.getDescription());
+            ps.setDate(5, Date.valueOf(task.getDueDate()));
+            ps.setBoolean(6, task.isCompleted());
+            ps.setTimestamp(7, createdAt);
+            ps.setTimestamp(8, createdAt);
+        });
+    }
+
+    // Drops the project's cached task collection and the cached task queries that may list its tasks.
+    // The project entry itself goes with the counter update in ProjectCounterRepository
+    public void evictCachedTasks(UUID projectId) {
+        Cache cache = entityManagerFactory.getCache().unwrap(Cache.class);
+        cache.evictCollectionData(Project.class.getName() + ".tasks", projectId);
+        cache.evictQueryRegion(HibernateCacheConfig.TASK_QUERY_REGION);
+    }
+}
@@ -1,11 +1,88 @@
 package com.projectmanager.backend.repository;
 
+import com.projectmanager.backend.config.HibernateCacheConfig;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.UUID;
 
+import com.projectmanager.backend.dto.response.TaskResponse;
 import com.projectmanager.backend.model.Task;
 import java.util.List;
+import java.util.Optional;
 
 public interface TaskRepository extends JpaRepository<Task, UUID> {
-    List<Task> findByProjectId(UUID projectId);
+    // Existence and ownership in one query joined on the owner; the project is fetched so its owner id is at hand
+    @Query("SELECT t FROM Task t JOIN FETCH t.project p JOIN p.user u WHERE t.id = :id AND u.email = :email")
+    Optional<Task> findByIdAndOwnerEmail(@Param("id") UUID id, @Param("email") String email);
+
+    @Modifying
+    @Query("DELETE FROM Task t WHERE t.project.id = :projectId")
+    int deleteByProjectId(@Param("projectId") UUID projectId);
+
+    // Reads the FK column directly, the project row is never joined
+    String TASK_RESPONSE = "SELECT new com.projectmanager.backend.dto.response.TaskResponse("
+            + "t.id, t.title, t.description, t.completed, t.dueDate, t.project.id) FROM Task t ";
+
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = HibernateCacheConfig.TASK_QUERY_REGION)
+    })
+    @Query(TASK_RESPONSE + "WHERE t.project.id = :projectId")
+    List<TaskResponse> findResponsesByProjectId(@Param("projectId") UUID projectId);
+
+    @Query(TASK_RESPONSE + "WHERE t.id IN :ids")
+    List<TaskResponse> findResponsesByIdIn(@Param("ids") Collection<UUID> ids);
+
+    // Keyset page ordered by (dueDate, id) ascending. Each filter shape has its own query and leads its ORDER BY
+    // with the columns it binds, so the order is read straight off idx_tasks_project_due for the unfiltered
+    // scroll and off idx_tasks_project_completed_due for the completed filter, never sorted.
+    String TASK_PAGE_AFTER = "AND (:search IS NULL OR LOWER(t.title) LIKE LOWER(CONCAT('%', :search, '%'))) "
+            + "AND (:dueFrom IS NULL OR t.dueDate >= :dueFrom) "
+            + "AND (:dueTo IS NULL OR t.dueDate <= :dueTo) "
+            + "AND (:dueDate IS NULL OR t.dueDate > :dueDate OR (t.dueDate = :dueDate AND t.id > :id)) ";
+
+    @Query(TASK_RESPONSE + "WHERE t.project.id = :projectId " + TASK_PAGE_AFTER
+            + "ORDER BY t.project.id, t.dueDate, t.id")
+    List<TaskResponse> findPageByProjectIdAfter(@Param("projectId") UUID projectId,
+            @Param("search") String search, @Param("dueFrom") LocalDate dueFrom, @Param("dueTo") LocalDate dueTo,
+            @Param("dueDate") LocalDate dueDate, @Param("id") UUID id, Limit limit);
+
+    @Query(TASK_RESPONSE + "WHERE t.project.id = :projectId AND t.completed = :completed " + TASK_PAGE_AFTER
+            + "ORDER BY t.project.id, t.completed, t.dueDate, t.id")
+    List<TaskResponse> findPageByProjectIdAndCompletedAfter(@Param("projectId") UUID projectId,
+            @Param("completed") boolean completed, @Param("search") String search,
+            @Param("dueFrom") LocalDate dueFrom, @Param("dueTo") LocalDate dueTo, @Param("dueDate") LocalDate dueDate,
+            @Param("id") UUID id, Limit limit);
+
+    // Set-based bulk updates; the EXISTS clause is the ownership check, so a foreign project matches no rows
+    String BULK_SET = "UPDATE Task t SET t.completed = COALESCE(:completed, t.completed), "
+            + "t.dueDate = COALESCE(:dueDate, t.dueDate), "
+            + "t.version = t.version + 1, t.updatedAt = :updatedAt ";
+    String OWNED_PROJECT = "t.project.id = :projectId "
+            + "AND EXISTS (SELECT p.id FROM Project p WHERE p.id = :projectId AND p.user.email = :email) ";
+
+    @Modifying
+    @Query(BULK_SET + "WHERE " + OWNED_PROJECT + "AND t.id IN :ids")
+    int bulkUpdateByIds(@Param("projectId") UUID projectId, @Param("email") String email,
+            @Param("ids") Collection<UUID> ids, @Param("completed") Boolean completed,
+            @Param("dueDate") LocalDate dueDate, @Param("updatedAt") LocalDateTime updatedAt);
+
+    @Modifying
+    @Query(BULK_SET + "WHERE " + OWNED_PROJECT
+            + "AND (:filterCompleted IS NULL OR t.completed = :filterCompleted) "
+            + "AND (:dueBefore IS NULL OR t.dueDate < :dueBefore)")
+    int bulkUpdateByFilter(@Param("projectId") UUID projectId, @Param("email") String email,
+            @Param("filterCompleted") Boolean filterCompleted, @Param("dueBefore") LocalDate dueBefore,
+            @Param("completed") Boolean completed, @Param("dueDate") LocalDate dueDate,
+            @Param("updatedAt") LocalDateTime updatedAt);
 }
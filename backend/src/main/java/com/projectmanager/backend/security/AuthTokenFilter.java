@@ -1,5 +1,6 @@
 package com.projectmanager.backend.security;
 
+import io.jsonwebtoken.Claims;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -15,6 +16,7 @@ import org.springframework.util.StringUtils;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
+import java.util.UUID;
 
 @Component
 @RequiredArgsConstructor
@@ -29,9 +31,9 @@ public class AuthTokenFilter extends OncePerRequestFilter {
 
         try {
             String jwt = parseJwt(request);
-            if (jwt != null && jwtUtils.validateToken(jwt)) {
-                String email = jwtUtils.getEmailFromToken(jwt);
-                UserDetails userDetails = userDetailsService.loadUserByUsername(email);
+            Claims claims = jwt != null ? jwtUtils.verifyToken(jwt) : null;
+            if (claims != null) {
+                UserDetails userDetails = buildPrincipal(claims);
 
                 UsernamePasswordAuthenticationToken authentication = new UsernamePasswordAuthenticationToken(
                         userDetails, null, userDetails.getAuthorities());
@@ -46,6 +48,15 @@ public class AuthTokenFilter extends OncePerRequestFilter {
         filterChain.doFilter(request, response);
     }
 
+    // Tokens carrying the user id are trusted as-is; older tokens fall back to the cached user lookup
+    private UserDetails buildPrincipal(Claims claims) {
+        String userId = claims.get(JwtUtils.USER_ID_CLAIM, String.class);
+        if (userId != null) {
+            return UserDetailsImpl.fromToken(UUID.fromString(userId), claims.getSubject());
+        }
+        return userDetailsService.loadUserByUsername(claims.getSubject());
+    }
+
     private String parseJwt(HttpServletRequest request) {
         String headerAuth = request.getHeader("Authorization");
         if (StringUtils.hasText(headerAuth) && headerAuth.startsWith("Bearer ")) {
@@ -1,50 +1,136 @@
 package com.projectmanager.backend.security;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Timer;
 import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
+import java.nio.charset.StandardCharsets;
 import java.security.Key;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.Base64;
 import java.util.Date;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
 
 @Component
 public class JwtUtils {
 
+    public static final String USER_ID_CLAIM = "uid";
+
     @Value("${app.jwtSecret}")
     private String secretString;
 
     @Value("${app.jwtExpirationMs}")
     private int jwtExpirationMs;
 
+    @Value("${app.jwtCacheMaxSize:10000}")
+    private long jwtCacheMaxSize;
+
+    // Optional so the class can still be built by hand in tests and benchmarks
+    @Autowired(required = false)
+    private MeterRegistry meterRegistry;
+
     private Key key;
+    private JwtParser parser;
+    private Timer cachedTimer;
+    private Timer verifiedTimer;
+    private Timer invalidTimer;
+
+    // Verified claims keyed by SHA-256 of the token, dropped when the token expires
+    private Cache<String, Claims> verifiedTokens;
 
     @PostConstruct
     public void init() {
         this.key = Keys.hmacShaKeyFor(secretString.getBytes());
+        this.parser = Jwts.parserBuilder().setSigningKey(key).build();
+        this.verifiedTokens = Caffeine.newBuilder()
+                .maximumSize(jwtCacheMaxSize)
+                .expireAfter(Expiry.creating((String hash, Claims claims) -> timeToExpiry(claims)))
+                .build();
+        MeterRegistry registry = meterRegistry != null ? meterRegistry : Metrics.globalRegistry;
+        this.cachedTimer = verifyTimer(registry, "cached");
+        this.verifiedTimer = verifyTimer(registry, "verified");
+        this.invalidTimer = verifyTimer(registry, "invalid");
     }
 
-    public String generateToken(String email) {
+    public String generateToken(String email, UUID userId) {
         return Jwts.builder()
                 .setSubject(email)
+                .claim(USER_ID_CLAIM, userId.toString())
                 .setIssuedAt(new Date())
                 .setExpiration(new Date((new Date()).getTime() + jwtExpirationMs))
                 .signWith(key, SignatureAlgorithm.HS256)
                 .compact();
     }
 
+    /**
+     * Parses and verifies the token in a single pass.
+     * Returns the verified claims, or null if the token is malformed, tampered with or expired.
+     */
+    public Claims verifyToken(String token) {
+        long start = System.nanoTime();
+        String cacheKey = hash(token);
+        Claims cached = verifiedTokens.getIfPresent(cacheKey);
+        if (cached != null) {
+            cachedTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            return cached;
+        }
+        try {
+            Claims claims = parser.parseClaimsJws(token).getBody();
+            verifiedTokens.put(cacheKey, claims);
+            verifiedTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            return claims;
+        } catch (JwtException | IllegalArgumentException e) {
+            invalidTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            return null;
+        }
+    }
+
     public String getEmailFromToken(String token) {
-        return Jwts.parserBuilder().setSigningKey(key).build()
-                .parseClaimsJws(token).getBody().getSubject();
+        Claims claims = verifyToken(token);
+        if (claims == null) {
+            throw new JwtException("Invalid JWT token");
+        }
+        return claims.getSubject();
     }
 
     public boolean validateToken(String authToken) {
+        return verifyToken(authToken) != null;
+    }
+
+    private Duration timeToExpiry(Claims claims) {
+        Duration maxLifetime = Duration.ofMillis(jwtExpirationMs);
+        Date expiration = claims.getExpiration();
+        if (expiration == null) {
+            return maxLifetime;
+        }
+        Duration remaining = Duration.ofMillis(expiration.getTime() - System.currentTimeMillis());
+        if (remaining.isNegative()) {
+            return Duration.ZERO;
+        }
+        return remaining.compareTo(maxLifetime) < 0 ? remaining : maxLifetime;
+    }
+
+    private static Timer verifyTimer(MeterRegistry registry, String result) {
+        return Timer.builder("auth.jwt.verify").tag("result", result).register(registry);
+    }
+
+    private static String hash(String token) {
         try {
-            Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(authToken);
-            return true;
-        } catch (JwtException e) {
-            // Log error
-            return false;
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().encodeToString(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
         }
     }
-}
\ No newline at end of file
+}
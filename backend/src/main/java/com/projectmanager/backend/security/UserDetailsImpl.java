@@ -8,11 +8,24 @@ import org.springframework.security.core.userdetails.UserDetails;
 
 import java.util.Collection;
 import java.util.Collections;
+import java.util.UUID;
 
 @AllArgsConstructor
 @Getter
 public class UserDetailsImpl implements UserDetails {
-    private final User user;
+    private final UUID id;
+    private final String email;
+    // Null when the principal was built from verified token claims
+    private final String password;
+
+    public UserDetailsImpl(User user) {
+        this(user.getId(), user.getEmail(), user.getPassword());
+    }
+
+    // Lightweight principal for an already authenticated token, no database access needed
+    public static UserDetailsImpl fromToken(UUID id, String email) {
+        return new UserDetailsImpl(id, email, null);
+    }
 
     @Override
     public Collection<? extends GrantedAuthority> getAuthorities() {
@@ -21,12 +34,12 @@ public class UserDetailsImpl implements UserDetails {
 
     @Override
     public String getPassword() {
-        return user.getPassword();
+        return password;
     }
 
     @Override
     public String getUsername() {
-        return user.getEmail();
+        return email;
     }
 
     @Override
@@ -48,4 +61,4 @@ public class UserDetailsImpl implements UserDetails {
     public boolean isEnabled() {
         return true;
     }
-}
\ No newline at end of file
+}
@@ -1,22 +1,66 @@
 package com.projectmanager.backend.security;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.projectmanager.backend.model.User;
 import com.projectmanager.backend.repository.UserRepository;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Duration;
+
+@Slf4j
 @Service
 @RequiredArgsConstructor
-public class UserDetailsServiceImpl implements UserDetailsService {
+public class UserDetailsServiceImpl implements UserDetailsService, UserDetailsPasswordService {
 
     private final UserRepository userRepository;
 
+    @Value("${app.userCacheTtlMs:300000}")
+    private long userCacheTtlMs;
+
+    @Value("${app.userCacheMaxSize:10000}")
+    private long userCacheMaxSize;
+
+    private Cache<String, UserDetails> userCache;
+
+    @PostConstruct
+    public void init() {
+        this.userCache = Caffeine.newBuilder()
+                .maximumSize(userCacheMaxSize)
+                .expireAfterWrite(Duration.ofMillis(userCacheTtlMs))
+                .build();
+    }
+
     @Override
     public UserDetails loadUserByUsername(String email) throws UsernameNotFoundException {
-        return userRepository.findByEmail(email)
+        return userCache.get(email, key -> userRepository.findByEmail(key)
                 .map(UserDetailsImpl::new) // Convert Entity to UserDetails
-                .orElseThrow(() -> new UsernameNotFoundException("User not found: " + email));
+                .orElseThrow(() -> new UsernameNotFoundException("User not found: " + key)));
+    }
+
+    // Called by the authentication provider after a login whose stored hash needs upgrading
+    @Override
+    @Transactional
+    public UserDetails updatePassword(UserDetails user, String newPassword) {
+        User entity = userRepository.findByEmail(user.getUsername())
+                .orElseThrow(() -> new UsernameNotFoundException("User not found: " + user.getUsername()));
+        entity.setPassword(newPassword);
+        evict(user.getUsername());
+        log.info("Password hash upgraded. User: {}", user.getUsername());
+        return new UserDetailsImpl(entity);
+    }
+
+    // Must be called whenever a user row is created or changed
+    public void evict(String email) {
+        userCache.invalidate(email);
     }
-}
\ No newline at end of file
+}
@@ -7,6 +7,8 @@ import com.projectmanager.backend.model.User;
 import com.projectmanager.backend.repository.UserRepository;
 import com.projectmanager.backend.security.JwtUtils;
 import com.projectmanager.backend.security.UserDetailsImpl;
+import com.projectmanager.backend.security.UserDetailsServiceImpl;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
@@ -14,6 +16,7 @@ import org.springframework.security.core.Authentication;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 
+@Timed("app.service")
 @Service
 @RequiredArgsConstructor
 public class AuthService {
@@ -22,6 +25,7 @@ public class AuthService {
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
     private final JwtUtils jwtUtils;
+    private final UserDetailsServiceImpl userDetailsService;
 
     public void registerUser(String email, String password) {
         if (userRepository.existsByEmail(email)) {
@@ -32,6 +36,7 @@ public class AuthService {
                 .password(passwordEncoder.encode(password))
                 .build();
         userRepository.save(user);
+        userDetailsService.evict(email);
     }
 
     public AuthResponse login(LoginRequest request) {
@@ -39,12 +44,12 @@ public class AuthService {
                 new UsernamePasswordAuthenticationToken(request.getEmail(), request.getPassword()));
 
         UserDetailsImpl userDetails = (UserDetailsImpl) authentication.getPrincipal();
-        String jwt = jwtUtils.generateToken(userDetails.getUsername());
+        String jwt = jwtUtils.generateToken(userDetails.getUsername(), userDetails.getId());
 
         return AuthResponse.builder()
                 .accessToken(jwt)
                 .tokenType("Bearer")
-                .userId(userDetails.getUser().getId())
+                .userId(userDetails.getId())
                 .email(userDetails.getUsername())
                 .build();
     }
@@ -0,0 +1,303 @@
+package com.projectmanager.backend.service;
+
+import com.projectmanager.backend.exception.ServiceUnavailableException;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.ContextClosedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * In-process fan-out of committed changes to the user's open Server-Sent Events streams.
+ * Idle streams hold no thread: the emitter is an async servlet response, and a small pool writes
+ * to a subscriber only when something is queued for it.
+ * Each subscriber has a bounded buffer that coalesces events per entity; a subscriber that falls further
+ * behind gets a single "resync" event instead, telling it to catch up through /api/sync.
+ * A client that stops reading fills its socket buffer and blocks the write; a send that takes longer than
+ * app.sseWriteTimeoutMs closes the stream and interrupts the write, so a few stalled clients cannot hold
+ * every push thread.
+ */
+@Service
+@Slf4j
+public class ChangeStreamService {
+    static final String CHANGE_EVENT = "change";
+    static final String RESYNC_EVENT = "resync";
+
+    private final Map<String, Set<Subscriber>> subscribers = new ConcurrentHashMap<>();
+    private final AtomicInteger subscriberCount = new AtomicInteger();
+
+    @Value("${app.sseTimeoutMs:1800000}")
+    private long timeoutMs = 1_800_000;
+
+    @Value("${app.sseBufferSize:64}")
+    private int bufferSize = 64;
+
+    @Value("${app.sseMaxSubscribers:10000}")
+    private int maxSubscribers = 10_000;
+
+    @Value("${app.sseMaxSubscribersPerUser:16}")
+    private int maxSubscribersPerUser = 16;
+
+    @Value("${app.ssePushThreads:4}")
+    private int pushThreads = 4;
+
+    @Value("${app.sseWriteTimeoutMs:10000}")
+    private long writeTimeoutMs = 10_000;
+
+    private ExecutorService pushExecutor;
+
+    @PostConstruct
+    public void init() {
+        AtomicInteger threadNumber = new AtomicInteger();
+        pushExecutor = Executors.newFixedThreadPool(pushThreads, runnable -> {
+            Thread thread = new Thread(runnable, "sse-push-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    // Close the streams before graceful shutdown starts waiting on in-flight requests
+    @EventListener(ContextClosedEvent.class)
+    public void closeStreams() {
+        subscribers.values().forEach(set -> set.forEach(subscriber -> subscriber.emitter.complete()));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        pushExecutor.shutdownNow();
+    }
+
+    public SseEmitter subscribe(String userEmail) {
+        if (subscriberCount.incrementAndGet() > maxSubscribers) {
+            subscriberCount.decrementAndGet();
+            throw new ServiceUnavailableException("Too many open event streams");
+        }
+        Subscriber subscriber = new Subscriber(userEmail, createEmitter());
+        AtomicBoolean added = new AtomicBoolean();
+        subscribers.compute(userEmail, (email, set) -> {
+            Set<Subscriber> current = set == null ? ConcurrentHashMap.newKeySet() : set;
+            if (current.size() < maxSubscribersPerUser) {
+                added.set(current.add(subscriber));
+            }
+            return current.isEmpty() ? null : current;
+        });
+        if (!added.get()) {
+            subscriberCount.decrementAndGet();
+            throw new ServiceUnavailableException("Too many open event streams for this user");
+        }
+
+        subscriber.emitter.onCompletion(() -> remove(subscriber));
+        subscriber.emitter.onTimeout(() -> remove(subscriber));
+        subscriber.emitter.onError(e -> remove(subscriber));
+        // No write from the push pool here: Spring commits the headers on the request thread, and a pool write
+        // racing the request thread out of the filter chain corrupts the response headers
+        log.debug("Event stream opened. User: {}", userEmail);
+        return subscriber.emitter;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onEntityChanged(EntityChangedEvent event) {
+        Set<Subscriber> targets = subscribers.get(event.userEmail());
+        if (targets == null) {
+            return;
+        }
+        for (Subscriber subscriber : targets) {
+            subscriber.offer(event);
+            schedule(subscriber);
+        }
+    }
+
+    // Keeps proxies from closing idle streams and finds the dead ones, whose write fails
+    @Scheduled(fixedDelayString = "${app.sseHeartbeatMs:25000}")
+    public void heartbeat() {
+        for (Set<Subscriber> set : subscribers.values()) {
+            for (Subscriber subscriber : set) {
+                subscriber.heartbeat();
+                schedule(subscriber);
+            }
+        }
+    }
+
+    // Runs on the scheduler, not the push pool, so it still runs when every push thread is blocked.
+    // A stalled write is found between one and two timeouts after it started
+    @Scheduled(fixedDelayString = "${app.sseWriteTimeoutMs:10000}")
+    public void closeStalledStreams() {
+        long now = System.nanoTime();
+        for (Set<Subscriber> set : subscribers.values()) {
+            for (Subscriber subscriber : set) {
+                if (subscriber.interruptIfStalled(now - TimeUnit.MILLISECONDS.toNanos(writeTimeoutMs))) {
+                    log.warn("Event stream write timed out. User: {}", subscriber.userEmail);
+                    remove(subscriber);
+                    subscriber.emitter.completeWithError(new IOException("Event stream write timed out"));
+                }
+            }
+        }
+    }
+
+    public int getSubscriberCount() {
+        return subscriberCount.get();
+    }
+
+    // At most one drain per subscriber is queued or running, so its events stay in order
+    private void schedule(Subscriber subscriber) {
+        if (subscriber.scheduled.compareAndSet(false, true)) {
+            pushExecutor.execute(() -> drain(subscriber));
+        }
+    }
+
+    SseEmitter createEmitter() {
+        return new SseEmitter(timeoutMs);
+    }
+
+    private void drain(Subscriber subscriber) {
+        while (true) {
+            if (subscriber.closed.get()) {
+                return;
+            }
+            Batch batch = subscriber.take();
+            if (batch == null) {
+                subscriber.scheduled.set(false);
+                // An offer may have slipped in between the empty take and the reset
+                if (!subscriber.hasWork() || !subscriber.scheduled.compareAndSet(false, true)) {
+                    return;
+                }
+                continue;
+            }
+            try {
+                if (batch.heartbeat()) {
+                    subscriber.send(SseEmitter.event().comment("heartbeat"));
+                }
+                if (batch.resync()) {
+                    subscriber.send(SseEmitter.event().name(RESYNC_EVENT).data("{}", MediaType.APPLICATION_JSON));
+                }
+                for (EntityChangedEvent event : batch.events()) {
+                    subscriber.send(SseEmitter.event().name(CHANGE_EVENT).data(payload(event),
+                            MediaType.APPLICATION_JSON));
+                }
+            } catch (IOException | IllegalStateException e) {
+                // Client went away; completing the emitter triggers remove
+                subscriber.emitter.completeWithError(e);
+                remove(subscriber);
+                return;
+            }
+        }
+    }
+
+    private void remove(Subscriber subscriber) {
+        if (!subscriber.closed.compareAndSet(false, true)) {
+            return;
+        }
+        subscribers.computeIfPresent(subscriber.userEmail, (email, set) -> {
+            set.remove(subscriber);
+            return set.isEmpty() ? null : set;
+        });
+        subscriberCount.decrementAndGet();
+        log.debug("Event stream closed. User: {}", subscriber.userEmail);
+    }
+
+    private static Map<String, Object> payload(EntityChangedEvent event) {
+        Map<String, Object> payload = new LinkedHashMap<>();
+        payload.put("type", event.type());
+        payload.put("id", event.id());
+        payload.put("projectId", event.projectId());
+        payload.put("op", event.op());
+        return payload;
+    }
+
+    private record Batch(boolean heartbeat, boolean resync, List<EntityChangedEvent> events) {
+    }
+
+    private final class Subscriber {
+        private final String userEmail;
+        private final SseEmitter emitter;
+        private final AtomicBoolean scheduled = new AtomicBoolean();
+        private final AtomicBoolean closed = new AtomicBoolean();
+        // Latest pending event per entity, in arrival order
+        private final LinkedHashMap<UUID, EntityChangedEvent> pending = new LinkedHashMap<>();
+        private boolean resync;
+        private boolean heartbeat;
+        // The push thread writing to this subscriber and when it started, guarded by this
+        private Thread sender;
+        private long sendStartedAt;
+
+        private Subscriber(String userEmail, SseEmitter emitter) {
+            this.userEmail = userEmail;
+            this.emitter = emitter;
+        }
+
+        synchronized void offer(EntityChangedEvent event) {
+            if (resync) {
+                return;
+            }
+            pending.remove(event.id());
+            pending.put(event.id(), event);
+            if (pending.size() > bufferSize) {
+                pending.clear();
+                resync = true;
+            }
+        }
+
+        void send(SseEmitter.SseEventBuilder event) throws IOException {
+            synchronized (this) {
+                sender = Thread.currentThread();
+                sendStartedAt = System.nanoTime();
+            }
+            try {
+                emitter.send(event);
+            } finally {
+                synchronized (this) {
+                    sender = null;
+                    // Clears an interrupt that arrived just as the write finished, so it cannot hit the next one
+                    Thread.interrupted();
+                }
+            }
+        }
+
+        synchronized boolean interruptIfStalled(long startedBefore) {
+            if (sender == null || sendStartedAt - startedBefore > 0) {
+                return false;
+            }
+            sender.interrupt();
+            return true;
+        }
+
+        synchronized void heartbeat() {
+            heartbeat = true;
+        }
+
+        synchronized boolean hasWork() {
+            return heartbeat || resync || !pending.isEmpty();
+        }
+
+        synchronized Batch take() {
+            if (!hasWork()) {
+                return null;
+            }
+            Batch batch = new Batch(heartbeat, resync, new ArrayList<>(pending.values()));
+            heartbeat = false;
+            resync = false;
+            pending.clear();
+            return batch;
+        }
+    }
+}
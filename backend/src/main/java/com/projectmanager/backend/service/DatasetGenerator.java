@@ -0,0 +1,306 @@
+package com.projectmanager.backend.service;
+
+import com.projectmanager.backend.model.UuidV7;
+import com.projectmanager.backend.repository.BulkLoadRepository;
+import com.projectmanager.backend.repository.BulkLoadRepository.ProjectRow;
+import com.projectmanager.backend.repository.BulkLoadRepository.TaskRow;
+import com.projectmanager.backend.repository.BulkLoadRepository.UserRow;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Generates synthetic users, projects and tasks and bulk-loads them with JDBC batches.
+ * Projects per user follow a Pareto tail and tasks per project a log-normal one, so a few users own hundreds of
+ * projects and a few projects hold thousands of tasks. Older projects are further along, pending tasks are mostly
+ * due in the coming weeks with a share overdue, and titles come from a fixed work vocabulary.
+ * Content is deterministic for a given seed: user i is always generated from seed + i, whatever the thread count.
+ * v7 ids come from the clock at generation time, like the ids Hibernate assigns on insert, so they ascend with
+ * insertion order (to the millisecond) instead of following the generated created_at; only v4 ids are reproducible.
+ * Every user gets the same password, hashed once. Search terms and the change log are not written; the search
+ * index is marked stale instead, so the next application start rebuilds it (or run SearchService.reindexAll).
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class DatasetGenerator {
+    private static final String[] VERBS = {
+            "Review", "Draft", "Fix", "Update", "Plan", "Test", "Design", "Migrate", "Document", "Deploy",
+            "Refactor", "Prepare", "Analyze", "Schedule", "Approve", "Clean up"
+    };
+    private static final String[] OBJECTS = {
+            "invoice flow", "onboarding emails", "release notes", "login page", "search results", "billing report",
+            "mobile layout", "API limits", "data export", "team roadmap", "budget sheet", "support macros",
+            "error alerts", "pricing page", "hiring plan", "audit log", "backup job", "sales deck"
+    };
+    private static final String[] AREAS = {
+            "Website", "Mobile app", "Payments", "Platform", "Marketing", "Onboarding", "Analytics", "Support",
+            "Security", "Infrastructure", "Growth", "Design system"
+    };
+    private static final int HISTORY_DAYS = 730;
+    private static final double PARETO_ALPHA = 2.0;
+    private static final double OVERDUE_SHARE = 0.15;
+
+    @Getter
+    @Builder(toBuilder = true)
+    public static class Spec {
+        @Builder.Default
+        private final int users = 1000;
+        @Builder.Default
+        private final double avgProjectsPerUser = 10;
+        @Builder.Default
+        private final int maxProjectsPerUser = 500;
+        @Builder.Default
+        private final double avgTasksPerProject = 40;
+        @Builder.Default
+        private final int maxTasksPerProject = 50000;
+        // Spread of the log-normal task counts; higher means heavier outlier projects
+        @Builder.Default
+        private final double taskCountSigma = 1.5;
+        @Builder.Default
+        private final long seed = 42;
+        // 7: time-ordered ids from the insertion clock, as the entities use; 4: random ids
+        @Builder.Default
+        private final int uuidVersion = 7;
+        @Builder.Default
+        private final String emailPrefix = "user";
+        @Builder.Default
+        private final String password = "password";
+        @Builder.Default
+        private final int threads = 4;
+        @Builder.Default
+        private final int batchSize = 5000;
+    }
+
+    public record Result(long users, long projects, long tasks, long elapsedMs) {
+        public double rowsPerSecond() {
+            return elapsedMs == 0 ? 0 : (users + projects + tasks) * 1000.0 / elapsedMs;
+        }
+    }
+
+    public record Comparison(Result v4, Result v7) {
+    }
+
+    private final BulkLoadRepository bulkLoadRepository;
+    private final PasswordEncoder passwordEncoder;
+    private final TransactionTemplate transactionTemplate;
+    private final SearchService searchService;
+
+    public Result generate(Spec spec) {
+        if (spec.getUuidVersion() != 4 && spec.getUuidVersion() != 7) {
+            throw new IllegalArgumentException("uuidVersion must be 4 or 7");
+        }
+        long start = System.nanoTime();
+        String passwordHash = passwordEncoder.encode(spec.getPassword());
+        LocalDateTime now = LocalDateTime.now();
+        Counts counts = new Counts();
+
+        int threads = Math.max(1, Math.min(spec.getThreads(), spec.getUsers()));
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<?>> slices = new ArrayList<>();
+            for (int slice = 0; slice < threads; slice++) {
+                int first = slice;
+                slices.add(executor.submit(() -> {
+                    Loader loader = new Loader(spec.getBatchSize(), counts);
+                    // Interleaved slices keep heavy and light users spread over the threads
+                    for (int user = first; user < spec.getUsers(); user += threads) {
+                        generateUser(spec, user, passwordHash, now, loader);
+                    }
+                    loader.flush();
+                }));
+            }
+            for (Future<?> slice : slices) {
+                slice.get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Dataset generation interrupted", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Dataset generation failed", e.getCause());
+        } finally {
+            executor.shutdownNow();
+        }
+        bulkLoadRepository.evictAll();
+        searchService.markIndexStale();
+
+        Result result = new Result(counts.users.get(), counts.projects.get(), counts.tasks.get(),
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+        log.info("Dataset generated. Users: {}, Projects: {}, Tasks: {}, Elapsed: {} ms, Rows/s: {}",
+                result.users(), result.projects(), result.tasks(), result.elapsedMs(),
+                Math.round(result.rowsPerSecond()));
+        return result;
+    }
+
+    /**
+     * Loads the same dataset twice, with random and with time-ordered ids, and reports both insert rates.
+     * v4 runs first, against the smaller tables, so the comparison never flatters v7. Run it on an empty schema.
+     */
+    public Comparison compareUuidVersions(Spec spec) {
+        Result v4 = generate(spec.toBuilder().uuidVersion(4).emailPrefix("v4-" + spec.getEmailPrefix()).build());
+        Result v7 = generate(spec.toBuilder().uuidVersion(7).emailPrefix("v7-" + spec.getEmailPrefix()).build());
+        log.info("UUID insert comparison. Rows: {}, v4: {} rows/s, v7: {} rows/s",
+                v4.users() + v4.projects() + v4.tasks(), Math.round(v4.rowsPerSecond()),
+                Math.round(v7.rowsPerSecond()));
+        return new Comparison(v4, v7);
+    }
+
+    private void generateUser(Spec spec, int index, String passwordHash, LocalDateTime now, Loader loader) {
+        Random random = new Random(spec.getSeed() + index);
+        LocalDateTime joinedAt = now.minusMinutes(random.nextInt(HISTORY_DAYS * 24 * 60));
+        // Ids draw from their own stream, so both uuid versions generate the same content
+        Random ids = new Random(random.nextLong());
+        UUID userId = id(spec, ids);
+        loader.add(new UserRow(userId, spec.getEmailPrefix() + index + "@example.com", passwordHash));
+
+        int projects = pareto(random, spec.getAvgProjectsPerUser(), spec.getMaxProjectsPerUser());
+        long historyMinutes = Math.max(1, Duration.between(joinedAt, now).toMinutes());
+        for (int p = 0; p < projects; p++) {
+            LocalDateTime createdAt = joinedAt.plusMinutes((long) (random.nextDouble() * historyMinutes));
+            generateProject(spec, userId, createdAt, now, random, ids, loader);
+        }
+    }
+
+    private void generateProject(Spec spec, UUID userId, LocalDateTime createdAt, LocalDateTime now, Random random,
+                                 Random ids, Loader loader) {
+        UUID projectId = id(spec, ids);
+        int taskCount = logNormal(random, spec.getAvgTasksPerProject(), spec.getTaskCountSigma(),
+                spec.getMaxTasksPerProject());
+        // Older projects are further along
+        double age = Duration.between(createdAt, now).toMinutes() / (HISTORY_DAYS * 24.0 * 60);
+        double completionRatio = Math.min(1, Math.max(0, 0.15 + 0.75 * age + random.nextGaussian() * 0.15));
+        long lifetimeMinutes = Math.max(1, Duration.between(createdAt, now).toMinutes());
+        LocalDate today = now.toLocalDate();
+
+        List<TaskRow> tasks = new ArrayList<>(taskCount);
+        int completed = 0;
+        for (int t = 0; t < taskCount; t++) {
+            LocalDateTime taskCreatedAt = createdAt.plusMinutes((long) (random.nextDouble() * lifetimeMinutes));
+            boolean done = random.nextDouble() < completionRatio;
+            LocalDate dueDate;
+            if (done) {
+                dueDate = taskCreatedAt.toLocalDate().plusDays(1 + random.nextInt(45));
+            } else if (random.nextDouble() < OVERDUE_SHARE) {
+                dueDate = today.minusDays(1 + random.nextInt(30));
+            } else {
+                dueDate = today.plusDays(random.nextInt(60));
+            }
+            completed += done ? 1 : 0;
+            tasks.add(new TaskRow(id(spec, ids), projectId, taskTitle(random),
+                    "Follow-up: " + taskTitle(random).toLowerCase(), dueDate, done, taskCreatedAt));
+        }
+        String area = AREAS[random.nextInt(AREAS.length)];
+        loader.add(new ProjectRow(projectId, userId, area + " " + OBJECTS[random.nextInt(OBJECTS.length)],
+                area + " work for " + createdAt.getYear() + " Q" + ((createdAt.getMonthValue() - 1) / 3 + 1),
+                createdAt, taskCount, completed));
+        tasks.forEach(loader::add);
+    }
+
+    private static String taskTitle(Random random) {
+        return VERBS[random.nextInt(VERBS.length)] + " " + OBJECTS[random.nextInt(OBJECTS.length)];
+    }
+
+    // Rows are flushed within one batch of being generated, so the generation clock stands in for the insert clock
+    private static UUID id(Spec spec, Random random) {
+        if (spec.getUuidVersion() == 7) {
+            return UuidV7.generate(System.currentTimeMillis(), random);
+        }
+        long msb = (random.nextLong() & 0xFFFFFFFFFFFF0FFFL) | 0x4000L;
+        long lsb = (random.nextLong() & 0x3FFFFFFFFFFFFFFFL) | 0x8000000000000000L;
+        return new UUID(msb, lsb);
+    }
+
+    // Pareto with the given mean (alpha 2, so the minimum is half the mean), at least 1
+    private static int pareto(Random random, double mean, int max) {
+        double minimum = mean * (PARETO_ALPHA - 1) / PARETO_ALPHA;
+        double value = minimum / Math.pow(1 - random.nextDouble(), 1 / PARETO_ALPHA);
+        return (int) Math.max(1, Math.min(max, Math.round(value)));
+    }
+
+    // Log-normal with the given mean and spread
+    private static int logNormal(Random random, double mean, double sigma, int max) {
+        double mu = Math.log(Math.max(mean, 1e-9)) - sigma * sigma / 2;
+        return (int) Math.min(max, Math.round(Math.exp(mu + sigma * random.nextGaussian())));
+    }
+
+    private static final class Counts {
+        final AtomicLong users = new AtomicLong();
+        final AtomicLong projects = new AtomicLong();
+        final AtomicLong tasks = new AtomicLong();
+    }
+
+    /**
+     * Per-thread row buffers, written parents first in one transaction per flush so foreign keys always resolve.
+     */
+    private final class Loader {
+        private final int batchSize;
+        private final Counts counts;
+        private final List<UserRow> users = new ArrayList<>();
+        private final List<ProjectRow> projects = new ArrayList<>();
+        private final List<TaskRow> tasks = new ArrayList<>();
+
+        Loader(int batchSize, Counts counts) {
+            this.batchSize = batchSize;
+            this.counts = counts;
+        }
+
+        void add(UserRow user) {
+            users.add(user);
+        }
+
+        void add(ProjectRow project) {
+            projects.add(project);
+            if (projects.size() >= batchSize) {
+                flush();
+            }
+        }
+
+        void add(TaskRow task) {
+            tasks.add(task);
+            if (tasks.size() >= batchSize) {
+                flush();
+            }
+        }
+
+        void flush() {
+            if (users.isEmpty() && projects.isEmpty() && tasks.isEmpty()) {
+                return;
+            }
+            transactionTemplate.executeWithoutResult(status -> {
+                if (!users.isEmpty()) {
+                    bulkLoadRepository.insertUsers(users);
+                }
+                if (!projects.isEmpty()) {
+                    bulkLoadRepository.insertProjects(projects);
+                }
+                if (!tasks.isEmpty()) {
+                    bulkLoadRepository.insertTasks(tasks);
+                }
+            });
+            counts.users.addAndGet(users.size());
+            counts.projects.addAndGet(projects.size());
+            counts.tasks.addAndGet(tasks.size());
+            users.clear();
+            projects.clear();
+            tasks.clear();
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package com.projectmanager.backend.service;
+
+import java.util.UUID;
+
+/**
+ * Published by the services for every project or task mutation, delivered to subscribers after commit.
+ * The user email routes it; the rest is the payload pushed to the client.
+ */
+public record EntityChangedEvent(String userEmail, String type, UUID id, UUID projectId, String op) {
+    public static final String PROJECT = "project";
+    public static final String TASK = "task";
+    public static final String UPSERT = "upsert";
+    public static final String DELETE = "delete";
+
+    public static EntityChangedEvent project(String userEmail, UUID projectId, String op) {
+        return new EntityChangedEvent(userEmail, PROJECT, projectId, projectId, op);
+    }
+
+    public static EntityChangedEvent task(String userEmail, UUID taskId, UUID projectId, String op) {
+        return new EntityChangedEvent(userEmail, TASK, taskId, projectId, op);
+    }
+}
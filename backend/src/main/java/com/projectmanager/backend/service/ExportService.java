@@ -0,0 +1,177 @@
+package com.projectmanager.backend.service;
+
+import com.projectmanager.backend.exception.ServiceUnavailableException;
+import com.projectmanager.backend.repository.ExportRepository;
+import com.projectmanager.backend.repository.ExportRepository.Row;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import org.springframework.web.context.request.async.CallableProcessingInterceptor;
+import org.springframework.web.context.request.async.WebAsyncUtils;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import tools.jackson.core.JsonGenerator;
+import tools.jackson.databind.ObjectMapper;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+@Service
+@Slf4j
+public class ExportService {
+    static final String SLOT_INTERCEPTOR_KEY = ExportService.class.getName() + ".slot";
+    private static final String CSV_HEADER = "project_id,project_title,project_description,project_created_at,"
+            + "task_id,task_title,task_description,task_due_date,task_completed";
+
+    private final ExportRepository exportRepository;
+    private final ObjectMapper objectMapper;
+    // Each export holds a pooled connection for its whole cursor read, long after the request permit is gone
+    private final Semaphore exportSlots;
+
+    public ExportService(ExportRepository exportRepository, ObjectMapper objectMapper,
+                         @Value("${app.maxConcurrentExports:4}") int maxConcurrentExports) {
+        this.exportRepository = exportRepository;
+        this.objectMapper = objectMapper;
+        this.exportSlots = new Semaphore(maxConcurrentExports);
+    }
+
+    public StreamingResponseBody ndjsonBody(UUID userId) {
+        return reserveSlot(out -> writeNdjson(userId, out));
+    }
+
+    public StreamingResponseBody csvBody(UUID userId) {
+        return reserveSlot(out -> writeCsv(userId, out));
+    }
+
+    public int getAvailableSlots() {
+        return exportSlots.availablePermits();
+    }
+
+    // Taken before the response starts so a full house is a clean 503, given back when the body finishes or fails.
+    // The async request also gives it back when it completes, times out or errors, in case the body never ran
+    private StreamingResponseBody reserveSlot(StreamingResponseBody body) {
+        if (!exportSlots.tryAcquire()) {
+            throw new ServiceUnavailableException("Too many exports running, retry shortly");
+        }
+        AtomicBoolean released = new AtomicBoolean();
+        Runnable release = () -> {
+            if (released.compareAndSet(false, true)) {
+                exportSlots.release();
+            }
+        };
+        if (RequestContextHolder.getRequestAttributes() instanceof ServletRequestAttributes attributes) {
+            WebAsyncUtils.getAsyncManager(attributes.getRequest()).registerCallableInterceptor(SLOT_INTERCEPTOR_KEY,
+                    new CallableProcessingInterceptor() {
+                        @Override
+                        public <T> void afterCompletion(NativeWebRequest request, Callable<T> task) {
+                            release.run();
+                        }
+                    });
+        }
+        return out -> {
+            try {
+                body.writeTo(out);
+            } finally {
+                release.run();
+            }
+        };
+    }
+
+    // One JSON object per line: each project record is followed by its task records
+    public void writeNdjson(UUID userId, OutputStream out) {
+        long[] rows = {0};
+        try (JsonGenerator json = objectMapper.writer().withRootValueSeparator("\n").createGenerator(out)) {
+            UUID[] currentProject = {null};
+            exportRepository.forEachRow(userId, row -> {
+                if (!Objects.equals(row.projectId(), currentProject[0])) {
+                    currentProject[0] = row.projectId();
+                    json.writeStartObject();
+                    json.writeStringProperty("type", "project");
+                    json.writeStringProperty("id", row.projectId().toString());
+                    json.writeStringProperty("title", row.projectTitle());
+                    json.writeStringProperty("description", row.projectDescription());
+                    json.writeStringProperty("createdAt", Objects.toString(row.projectCreatedAt(), null));
+                    json.writeEndObject();
+                }
+                if (row.taskId() != null) {
+                    json.writeStartObject();
+                    json.writeStringProperty("type", "task");
+                    json.writeStringProperty("id", row.taskId().toString());
+                    json.writeStringProperty("projectId", row.projectId().toString());
+                    json.writeStringProperty("title", row.taskTitle());
+                    json.writeStringProperty("description", row.taskDescription());
+                    json.writeStringProperty("dueDate", Objects.toString(row.taskDueDate(), null));
+                    json.writeBooleanProperty("completed", row.taskCompleted());
+                    json.writeEndObject();
+                }
+                rows[0]++;
+            });
+            json.writeRaw('\n');
+        }
+        log.info("NDJSON export finished. User: {}, Rows: {}", userId, rows[0]);
+    }
+
+    // One line per project/task pair, projects without tasks get empty task columns
+    public void writeCsv(UUID userId, OutputStream out) {
+        long[] rows = {0};
+        try (Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8))) {
+            writer.write(CSV_HEADER);
+            writer.write('\n');
+            exportRepository.forEachRow(userId, row -> {
+                try {
+                    writeCsvRow(writer, row);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+                rows[0]++;
+            });
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        log.info("CSV export finished. User: {}, Rows: {}", userId, rows[0]);
+    }
+
+    private void writeCsvRow(Writer writer, Row row) throws IOException {
+        boolean hasTask = row.taskId() != null;
+        writer.write(row.projectId().toString());
+        writer.write(',');
+        writer.write(csv(row.projectTitle()));
+        writer.write(',');
+        writer.write(csv(row.projectDescription()));
+        writer.write(',');
+        writer.write(Objects.toString(row.projectCreatedAt(), ""));
+        writer.write(',');
+        writer.write(hasTask ? row.taskId().toString() : "");
+        writer.write(',');
+        writer.write(csv(row.taskTitle()));
+        writer.write(',');
+        writer.write(csv(row.taskDescription()));
+        writer.write(',');
+        writer.write(Objects.toString(row.taskDueDate(), ""));
+        writer.write(',');
+        writer.write(hasTask ? String.valueOf(row.taskCompleted()) : "");
+        writer.write('\n');
+    }
+
+    private static String csv(String value) {
+        if (value == null) {
+            return "";
+        }
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+            return value;
+        }
+        return '"' + value.replace("\"", "\"\"") + '"';
+    }
+}
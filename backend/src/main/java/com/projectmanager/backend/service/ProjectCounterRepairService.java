@@ -0,0 +1,60 @@
+package com.projectmanager.backend.service;
+
+import com.projectmanager.backend.repository.ProjectCounterRepository;
+import com.projectmanager.backend.repository.ProjectRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Safety net for the denormalized task counters on projects, which TaskService keeps in sync and the V6
+ * migration backfilled. Recomputes them from the tasks table and reports the projects that had drifted, in the log
+ * and in app.counters.repaired.
+ * Walks the projects by id in fixed-size batches, one short transaction per batch.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ProjectCounterRepairService {
+    private static final UUID FIRST_ID = new UUID(0L, 0L);
+
+    private final ProjectRepository projectRepository;
+    private final ProjectCounterRepository projectCounterRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${app.counterRepairBatchSize:500}")
+    private int batchSize;
+
+    @Scheduled(cron = "${app.counterRepairCron:0 0 3 * * *}")
+    public void repairAll() {
+        UUID after = FIRST_ID;
+        int projects = 0;
+        int repaired = 0;
+        while (true) {
+            List<UUID> ids = projectRepository.findIdsAfter(after, Limit.of(batchSize));
+            if (ids.isEmpty()) {
+                break;
+            }
+            repaired += transactionTemplate.execute(status -> projectCounterRepository.recomputeTaskCounters(ids));
+            projects += ids.size();
+            after = ids.get(ids.size() - 1);
+        }
+        if (repaired > 0) {
+            Counter.builder("app.counters.repaired").register(meterRegistry).increment(repaired);
+            log.warn("Project task counters had drifted and were repaired. Projects: {}, Repaired: {}",
+                    projects, repaired);
+        } else {
+            log.info("Project task counters checked. Projects: {}", projects);
+        }
+    }
+}
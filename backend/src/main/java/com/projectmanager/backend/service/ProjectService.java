@@ -1,7 +1,14 @@
 package com.projectmanager.backend.service;
 
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeParseException;
+import java.util.List;
 import java.util.UUID;
 
+import io.micrometer.core.annotation.Timed;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -9,11 +16,13 @@ import org.springframework.transaction.annotation.Transactional;
 import com.projectmanager.backend.repository.UserRepository;
 
 import com.projectmanager.backend.dto.request.ProjectRequest;
+import com.projectmanager.backend.dto.response.CursorPageResponse;
 import com.projectmanager.backend.dto.response.ProjectResponse;
 import com.projectmanager.backend.exception.ResourceNotFoundException;
 import com.projectmanager.backend.mapper.ProjectMapper;
 import com.projectmanager.backend.model.Project;
 import com.projectmanager.backend.repository.ProjectRepository;
+import com.projectmanager.backend.repository.TaskRepository;
 import com.projectmanager.backend.model.User;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -21,13 +30,21 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.domain.Page;
 
+@Timed("app.service")
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class ProjectService {
+    // Above this many index candidates the IN list stops paying off and the owner's projects are scanned
+    static final int MAX_INDEXED_CANDIDATES = 1000;
+
     private final ProjectRepository projectRepository;
+    private final TaskRepository taskRepository;
     private final UserRepository userRepository;
     private final ProjectMapper projectMapper;
+    private final SearchService searchService;
+    private final SyncService syncService;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
     public ProjectResponse createProject(ProjectRequest request, String userEmail) {
@@ -38,6 +55,10 @@ public class ProjectService {
         project.setUser(user);
 
         Project savedProject = projectRepository.save(project);
+        searchService.indexProject(user.getId(), savedProject);
+        syncService.projectChanged(user.getId(), savedProject.getId());
+        eventPublisher.publishEvent(EntityChangedEvent.project(userEmail, savedProject.getId(),
+                EntityChangedEvent.UPSERT));
         log.info("Project created. ID: {}, User: {}", savedProject.getId(), userEmail);
         return projectMapper.toResponse(savedProject);
     }
@@ -46,53 +67,107 @@ public class ProjectService {
     public Page<ProjectResponse> getUserProjects(String userEmail, String search, int page, int size) {
         Pageable pageable = PageRequest.of(page, size, Sort.by("createdAt").descending());
         if (search == null || search.trim().isEmpty()) {
-            return projectRepository.findByUserEmail(userEmail, pageable)
-                    .map(projectMapper::toResponse);
+            return projectRepository.findCachedByUserEmail(userEmail, pageable).map(projectMapper::toResponse);
+        }
+        String term = search.trim();
+        List<UUID> candidates = searchService.findProjectIdsByTitle(userEmail, term, MAX_INDEXED_CANDIDATES);
+        if (candidates == null) {
+            return projectRepository.findResponsesByUserEmailAndTitleContaining(userEmail, term, pageable);
+        }
+        if (candidates.isEmpty()) {
+            return Page.empty(pageable);
         }
-        return projectRepository.findByUserEmailAndTitleContainingIgnoreCase(userEmail, search, pageable)
-                .map(projectMapper::toResponse);
+        return projectRepository.findResponsesByIdInAndTitleContaining(candidates, userEmail, term, pageable);
+    }
+
+    @Transactional(readOnly = true)
+    public CursorPageResponse<ProjectResponse> scrollUserProjects(String userEmail, String search, String cursor,
+            int size) {
+        int pageSize = CursorCodec.pageSize(size);
+        LocalDateTime createdAt = null;
+        UUID id = null;
+        if (cursor != null && !cursor.isEmpty()) {
+            String[] position = CursorCodec.decode(cursor, 2);
+            try {
+                createdAt = LocalDateTime.parse(position[0]);
+                id = UUID.fromString(position[1]);
+            } catch (DateTimeParseException e) {
+                throw new IllegalArgumentException("Invalid cursor");
+            }
+        }
+        String term = (search == null || search.trim().isEmpty()) ? null : search.trim();
+
+        // One extra row tells us whether another page exists without a COUNT query
+        List<ProjectResponse> projects = projectRepository.findPageByUserEmailBefore(userEmail, term, createdAt, id,
+                Limit.of(pageSize + 1));
+        boolean hasNext = projects.size() > pageSize;
+        String nextCursor = null;
+        if (hasNext) {
+            projects = projects.subList(0, pageSize);
+            ProjectResponse last = projects.get(projects.size() - 1);
+            nextCursor = CursorCodec.encode(last.getCreatedAt(), last.getId());
+        }
+        return CursorPageResponse.<ProjectResponse>builder()
+                .items(projects)
+                .nextCursor(nextCursor)
+                .hasNext(hasNext)
+                .build();
     }
 
     @Transactional(readOnly = true)
     public ProjectResponse getProjectById(UUID projectId, String userEmail) {
-        Project project = projectRepository.findByIdWithTasks(projectId)
+        return projectRepository.findCachedByIdAndUserEmail(projectId, userEmail)
+                .map(projectMapper::toResponse)
                 .orElseThrow(() -> new ResourceNotFoundException("Project not found"));
+    }
 
-        validateProjectOwnership(project, userEmail);
+    // Read from the same cached entity as the body, so the ETag moves with the counters
+    @Transactional(readOnly = true)
+    public long getProjectVersion(UUID projectId, String userEmail) {
+        return projectRepository.findCachedByIdAndUserEmail(projectId, userEmail)
+                .map(Project::getVersion)
+                .orElseThrow(() -> new ResourceNotFoundException("Project not found"));
+    }
 
-        return projectMapper.toResponse(project);
+    // Changes whenever any project of the user is created, updated or deleted, or any of their tasks changes
+    @Transactional(readOnly = true)
+    public String getProjectListVersion(String userEmail) {
+        ProjectRepository.ListVersion version = projectRepository.findListVersionByUserEmail(userEmail);
+        LocalDateTime lastUpdated = version.getLastUpdated();
+        return version.getCount() + "-" + (version.getVersionSum() == null ? 0 : version.getVersionSum()) + "-"
+                + (lastUpdated == null ? 0 : lastUpdated.toEpochSecond(ZoneOffset.UTC) * 1_000_000
+                        + lastUpdated.getNano() / 1_000);
     }
 
     @Transactional
     public void deleteProject(UUID projectId, String userEmail) {
-        Project project = projectRepository.findById(projectId)
+        UUID ownerId = projectRepository.findOwnerIdByIdAndUserEmail(projectId, userEmail)
                 .orElseThrow(() -> new ResourceNotFoundException("Project not found"));
 
-        validateProjectOwnership(project, userEmail);
-
-        projectRepository.delete(project);
+        // Bulk deletes: cascading through the entity would load and delete every task one by one
+        taskRepository.deleteByProjectId(projectId);
+        projectRepository.deleteProjectById(projectId);
+        searchService.removeProject(projectId);
+        syncService.projectDeleted(ownerId, projectId);
+        eventPublisher.publishEvent(EntityChangedEvent.project(userEmail, projectId, EntityChangedEvent.DELETE));
         log.info("Project deleted. ID: {}, User: {}", projectId, userEmail);
     }
 
     @Transactional
     public ProjectResponse updateProject(UUID projectId, ProjectRequest request, String userEmail) {
-        Project project = projectRepository.findById(projectId)
+        Project project = projectRepository.findByIdAndUserEmail(projectId, userEmail)
                 .orElseThrow(() -> new ResourceNotFoundException("Project not found"));
 
-        validateProjectOwnership(project, userEmail);
-
         project.setTitle(request.getTitle());
         project.setDescription(request.getDescription());
 
         Project updatedProject = projectRepository.save(project);
+        // The owner is a lazy reference, reading its id does not load the user
+        searchService.indexProject(project.getUser().getId(), updatedProject);
+        syncService.projectChanged(project.getUser().getId(), projectId);
+        eventPublisher.publishEvent(EntityChangedEvent.project(userEmail, projectId, EntityChangedEvent.UPSERT));
         log.info("Project updated. ID: {}, User: {}", projectId, userEmail);
         return projectMapper.toResponse(updatedProject);
     }
 
-    private void validateProjectOwnership(Project project, String userEmail) {
-        if (!project.getUser().getEmail().equals(userEmail)) {
-            throw new ResourceNotFoundException("Project not found");
-        }
-    }
-
 }
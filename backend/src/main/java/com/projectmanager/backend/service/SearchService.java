@@ -0,0 +1,225 @@
+package com.projectmanager.backend.service;
+
+import com.projectmanager.backend.dto.response.SearchResultResponse;
+import com.projectmanager.backend.exception.ServiceUnavailableException;
+import com.projectmanager.backend.model.Project;
+import com.projectmanager.backend.model.Task;
+import com.projectmanager.backend.repository.ProjectRepository;
+import com.projectmanager.backend.repository.SearchIndexRepository;
+import com.projectmanager.backend.repository.SearchIndexRepository.Entry;
+import com.projectmanager.backend.repository.SearchIndexRepository.Source;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.UUID;
+import java.util.regex.Pattern;
+
+/**
+ * Owner-scoped search over project and task titles and descriptions.
+ * Text is folded to lower case without accents, split into words and indexed as trigrams
+ * (words shorter than three characters are indexed whole), so substrings match without a LIKE scan.
+ * The index is maintained in the same transaction as every create, update and delete, and rebuilt on startup
+ * when the stored index version differs from INDEX_VERSION (never built, or built by an older term derivation).
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class SearchService {
+    // Bump whenever terms() changes, so existing indexes are rebuilt with the new terms
+    static final int INDEX_VERSION = 1;
+    static final int GRAM = 3;
+    static final int MAX_QUERY_TERMS = 32;
+    static final int MAX_PAGE_SIZE = 50;
+
+    private static final Pattern SEPARATORS = Pattern.compile("[^\\p{L}\\p{N}]+");
+    private static final Pattern MARKS = Pattern.compile("\\p{M}+");
+    private static final UUID FIRST_ID = new UUID(0L, 0L);
+
+    private final SearchIndexRepository searchIndexRepository;
+    private final ProjectRepository projectRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    // Share of the query trigrams a result must contain; tolerates typos without matching everything
+    @Value("${app.searchMinMatch:0.6}")
+    private double minMatch = 0.6;
+
+    @Value("${app.searchReindexBatchSize:200}")
+    private int reindexBatchSize = 200;
+
+    @Value("${app.searchReindexOnStartup:false}")
+    private boolean reindexOnStartup;
+
+    // False until the stored index is known to be complete; lookups then fall back or report unavailability
+    private volatile boolean indexReady;
+
+    @Transactional(readOnly = true)
+    public List<SearchResultResponse> search(UUID ownerId, String query, int page, int size) {
+        if (page < 0) {
+            throw new IllegalArgumentException("Page must not be negative");
+        }
+        if (!indexReady) {
+            throw new ServiceUnavailableException("Search index is being rebuilt, retry shortly");
+        }
+        List<String> terms = queryTerms(query);
+        if (terms.isEmpty()) {
+            return Collections.emptyList();
+        }
+        int limit = Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
+        int minMatched = Math.max(1, (int) Math.ceil(terms.size() * minMatch));
+        return searchIndexRepository.search(ownerId, terms, minMatched, limit, (long) page * limit).stream()
+                .map(match -> SearchResultResponse.builder()
+                        .type(match.entityType() == SearchIndexRepository.PROJECT ? "project" : "task")
+                        .id(match.entityId())
+                        .projectId(match.projectId())
+                        .title(match.title())
+                        .score(match.score())
+                        .build())
+                .toList();
+    }
+
+    /**
+     * Candidate projects whose title contains every trigram of the query, or null when the index cannot
+     * narrow the search (index not built yet, query too short or more than limit candidates) and the caller
+     * should scan instead.
+     */
+    public List<UUID> findProjectIdsByTitle(String ownerEmail, String query, int limit) {
+        List<String> terms = queryTerms(query);
+        if (!indexReady || terms.isEmpty() || terms.stream().anyMatch(term -> term.length() < GRAM)) {
+            return null;
+        }
+        List<UUID> ids = searchIndexRepository.findProjectIdsByTitle(ownerEmail, terms, limit + 1);
+        return ids.size() > limit ? null : ids;
+    }
+
+    public void indexProject(UUID ownerId, Project project) {
+        searchIndexRepository.deleteEntity(project.getId());
+        List<Entry> entries = new ArrayList<>();
+        addEntries(entries, ownerId, SearchIndexRepository.PROJECT, project.getId(), project.getId(),
+                project.getTitle(), project.getDescription());
+        searchIndexRepository.insert(entries);
+    }
+
+    public void indexTask(UUID ownerId, Task task) {
+        searchIndexRepository.deleteEntity(task.getId());
+        indexNewTasks(ownerId, task.getProject().getId(), List.of(task));
+    }
+
+    // For tasks that have never been indexed, skips the delete
+    public void indexNewTasks(UUID ownerId, UUID projectId, Collection<Task> tasks) {
+        List<Entry> entries = new ArrayList<>();
+        for (Task task : tasks) {
+            addEntries(entries, ownerId, SearchIndexRepository.TASK, task.getId(), projectId,
+                    task.getTitle(), task.getDescription());
+        }
+        searchIndexRepository.insert(entries);
+    }
+
+    public void removeTask(UUID taskId) {
+        searchIndexRepository.deleteEntity(taskId);
+    }
+
+    // Removes the project and every task indexed under it
+    public void removeProject(UUID projectId) {
+        searchIndexRepository.deleteProject(projectId);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void reindexOnStartup() {
+        int storedVersion = searchIndexRepository.findIndexVersion();
+        if (reindexOnStartup || storedVersion != INDEX_VERSION) {
+            log.info("Rebuilding search index. Stored version: {}, Current version: {}", storedVersion,
+                    INDEX_VERSION);
+            reindexAll();
+        } else {
+            indexReady = true;
+        }
+    }
+
+    // For writers that bypass the services, such as the dataset generator; the next startup rebuilds the index
+    public void markIndexStale() {
+        searchIndexRepository.saveIndexVersion(0);
+    }
+
+    /**
+     * Rebuilds the index from the projects and tasks tables, for data written before the index existed or by bulk
+     * loaders. Walks the projects by id in batches, one short transaction per batch; every batch replaces the terms
+     * of its projects, so a rebuild interrupted or run by two instances at once still ends consistent.
+     */
+    public void reindexAll() {
+        UUID after = FIRST_ID;
+        int projects = 0;
+        while (true) {
+            List<UUID> ids = projectRepository.findIdsAfter(after, Limit.of(reindexBatchSize));
+            if (ids.isEmpty()) {
+                break;
+            }
+            transactionTemplate.executeWithoutResult(status -> {
+                ids.forEach(searchIndexRepository::deleteProject);
+                List<Entry> entries = new ArrayList<>();
+                searchIndexRepository.forEachSource(ids, (Source source) -> addEntries(entries, source.ownerId(),
+                        source.entityType(), source.entityId(), source.projectId(), source.title(),
+                        source.description()));
+                searchIndexRepository.insert(entries);
+            });
+            projects += ids.size();
+            after = ids.get(ids.size() - 1);
+        }
+        searchIndexRepository.saveIndexVersion(INDEX_VERSION);
+        indexReady = true;
+        log.info("Search index rebuilt. Projects: {}", projects);
+    }
+
+    private static void addEntries(List<Entry> entries, UUID ownerId, char entityType, UUID entityId,
+            UUID projectId, String title, String description) {
+        for (String term : terms(title)) {
+            entries.add(new Entry(ownerId, term, entityId, SearchIndexRepository.TITLE, entityType, projectId));
+        }
+        for (String term : terms(description)) {
+            entries.add(new Entry(ownerId, term, entityId, SearchIndexRepository.DESCRIPTION, entityType,
+                    projectId));
+        }
+    }
+
+    private static List<String> queryTerms(String query) {
+        return terms(query).stream().limit(MAX_QUERY_TERMS).toList();
+    }
+
+    // Distinct index terms of the text in order of first appearance
+    static Set<String> terms(String text) {
+        Set<String> terms = new LinkedHashSet<>();
+        if (text == null || text.isBlank()) {
+            return terms;
+        }
+        String folded = MARKS.matcher(Normalizer.normalize(text, Normalizer.Form.NFD)).replaceAll("")
+                .toLowerCase(Locale.ROOT);
+        for (String word : SEPARATORS.split(folded)) {
+            int[] codePoints = word.codePoints().toArray();
+            if (codePoints.length == 0) {
+                continue;
+            }
+            if (codePoints.length < GRAM) {
+                terms.add(word);
+                continue;
+            }
+            for (int i = 0; i + GRAM <= codePoints.length; i++) {
+                terms.add(new String(codePoints, i, GRAM));
+            }
+        }
+        return terms;
+    }
+}
@@ -0,0 +1,198 @@
+package com.projectmanager.backend.service;
+
+import com.projectmanager.backend.dto.response.ProjectResponse;
+import com.projectmanager.backend.dto.response.SyncResponse;
+import com.projectmanager.backend.dto.response.SyncResponse.Tombstone;
+import com.projectmanager.backend.dto.response.TaskResponse;
+import com.projectmanager.backend.exception.CursorExpiredException;
+import com.projectmanager.backend.repository.ChangeLogRepository;
+import com.projectmanager.backend.repository.ChangeLogRepository.Change;
+import com.projectmanager.backend.repository.ChangeLogRepository.Entry;
+import com.projectmanager.backend.repository.ProjectRepository;
+import com.projectmanager.backend.repository.TaskRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Records project and task changes in the change log and serves them as deltas since a cursor.
+ * Recording happens in the transaction of the change itself. Every task change also logs its project,
+ * whose counters moved or whose version was bumped with it.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class SyncService {
+    static final int MAX_PAGE_SIZE = 500;
+
+    private final ChangeLogRepository changeLogRepository;
+    private final ProjectRepository projectRepository;
+    private final TaskRepository taskRepository;
+
+    // Entries younger than this are sent but the cursor is not moved past them: sequence numbers are taken
+    // at insert, so a slower transaction can still commit a lower one
+    @Value("${app.syncSettleMs:5000}")
+    private long settleMs = 5000;
+
+    @Value("${app.changeLogRetentionDays:30}")
+    private int retentionDays = 30;
+
+    @Value("${app.changeLogPruneBatchSize:5000}")
+    private int pruneBatchSize = 5000;
+
+    public void projectChanged(UUID ownerId, UUID projectId) {
+        changeLogRepository.append(List.of(project(ownerId, projectId, ChangeLogRepository.UPSERT)));
+    }
+
+    public void projectDeleted(UUID ownerId, UUID projectId) {
+        changeLogRepository.append(List.of(project(ownerId, projectId, ChangeLogRepository.DELETE)));
+    }
+
+    public void taskChanged(UUID ownerId, UUID projectId, UUID taskId) {
+        tasksChanged(ownerId, projectId, List.of(taskId));
+    }
+
+    public void tasksChanged(UUID ownerId, UUID projectId, Collection<UUID> taskIds) {
+        List<Change> changes = new ArrayList<>(taskIds.size() + 1);
+        for (UUID taskId : taskIds) {
+            changes.add(new Change(ownerId, ChangeLogRepository.TASK, taskId, projectId,
+                    ChangeLogRepository.UPSERT));
+        }
+        changes.add(project(ownerId, projectId, ChangeLogRepository.UPSERT));
+        changeLogRepository.append(changes);
+    }
+
+    public void taskDeleted(UUID ownerId, UUID projectId, UUID taskId) {
+        changeLogRepository.append(List.of(
+                new Change(ownerId, ChangeLogRepository.TASK, taskId, projectId, ChangeLogRepository.DELETE),
+                project(ownerId, projectId, ChangeLogRepository.UPSERT)));
+    }
+
+    // For set-based updates that stamped every touched task with the same updatedAt
+    public void tasksUpdatedAt(UUID projectId, LocalDateTime updatedAt) {
+        changeLogRepository.appendTasksUpdatedAt(projectId, updatedAt);
+    }
+
+    /**
+     * Changes since the cursor, collapsed to the latest state per entity.
+     * Without a cursor nothing is returned but the current position: take it before loading the full
+     * data set, then replay from it. Replays are safe, every entry is an upsert or a tombstone.
+     * The position stops short of entries inside the settle window, like the cursor of every later page.
+     * Not read-only on purpose: that keeps it on the primary. A lagging replica can hold a later sequence number
+     * while missing an earlier one, and the cursor would move past the missing entry for good.
+     */
+    @Transactional
+    public SyncResponse sync(UUID ownerId, String cursor, int size) {
+        if (size < 1) {
+            throw new IllegalArgumentException("Limit must be at least 1");
+        }
+        long prunedThrough = changeLogRepository.findPrunedThrough();
+        LocalDateTime settleCutoff = LocalDateTime.now().minusNanos(settleMs * 1_000_000);
+        if (cursor == null || cursor.isEmpty()) {
+            long position = Math.max(changeLogRepository.findLastSeqAtOrBefore(ownerId, settleCutoff),
+                    prunedThrough);
+            return SyncResponse.builder()
+                    .projects(Collections.emptyList())
+                    .tasks(Collections.emptyList())
+                    .deleted(Collections.emptyList())
+                    .cursor(CursorCodec.encode(position))
+                    .hasMore(false)
+                    .build();
+        }
+        long after;
+        try {
+            after = Long.parseLong(CursorCodec.decode(cursor, 1)[0]);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid cursor");
+        }
+        if (after < prunedThrough) {
+            throw new CursorExpiredException("Sync cursor expired, reload everything and start over");
+        }
+
+        int limit = Math.min(size, MAX_PAGE_SIZE);
+        List<Entry> entries = changeLogRepository.findAfter(ownerId, after, limit + 1);
+        boolean hasMore = entries.size() > limit;
+        if (hasMore) {
+            entries = entries.subList(0, limit);
+        }
+
+        // Later entries win; the insertion order keeps the log order for the tombstones
+        Map<UUID, Entry> latest = new LinkedHashMap<>();
+        long next = after;
+        boolean settled = true;
+        for (Entry entry : entries) {
+            latest.remove(entry.entityId());
+            latest.put(entry.entityId(), entry);
+            settled = settled && !entry.changedAt().isAfter(settleCutoff);
+            if (settled) {
+                next = entry.seq();
+            }
+        }
+        // A full page that never settled would otherwise be served again forever
+        if (hasMore && next == after) {
+            next = entries.get(entries.size() - 1).seq();
+        }
+
+        List<UUID> projectIds = new ArrayList<>();
+        List<UUID> taskIds = new ArrayList<>();
+        List<Tombstone> deleted = new ArrayList<>();
+        for (Entry entry : latest.values()) {
+            boolean isProject = entry.entityType() == ChangeLogRepository.PROJECT;
+            if (entry.op() == ChangeLogRepository.DELETE) {
+                deleted.add(new Tombstone(isProject ? "project" : "task", entry.entityId(), entry.projectId()));
+            } else if (isProject) {
+                projectIds.add(entry.entityId());
+            } else {
+                taskIds.add(entry.entityId());
+            }
+        }
+
+        // Rows deleted after they were logged are missing here; their tombstones follow later in the log
+        List<ProjectResponse> projects = projectIds.isEmpty() ? Collections.emptyList()
+                : projectRepository.findResponsesByIdIn(projectIds);
+        List<TaskResponse> tasks = taskIds.isEmpty() ? Collections.emptyList()
+                : taskRepository.findResponsesByIdIn(taskIds);
+        return SyncResponse.builder()
+                .projects(projects)
+                .tasks(tasks)
+                .deleted(deleted)
+                .cursor(CursorCodec.encode(next))
+                .hasMore(hasMore)
+                .build();
+    }
+
+    // Every write appends to the change log, so the old entries go in short batches, each its own transaction,
+    // instead of one long delete holding locks on the table
+    @Scheduled(cron = "${app.changeLogPruneCron:0 30 3 * * *}")
+    public void prune() {
+        long through = changeLogRepository.findLastSeqBefore(LocalDateTime.now().minusDays(retentionDays));
+        if (through == 0) {
+            return;
+        }
+        // Marked first, so no cursor is served a delta with entries already deleted
+        changeLogRepository.markPrunedThrough(through);
+        int removed = 0;
+        int deleted;
+        do {
+            deleted = changeLogRepository.deleteThrough(through, pruneBatchSize);
+            removed += deleted;
+        } while (deleted == pruneBatchSize);
+        log.info("Change log pruned. Entries: {}", removed);
+    }
+
+    private static Change project(UUID ownerId, UUID projectId, char op) {
+        return new Change(ownerId, ChangeLogRepository.PROJECT, projectId, projectId, op);
+    }
+}
@@ -0,0 +1,283 @@
+package com.projectmanager.backend.service;
+
+import com.projectmanager.backend.dto.request.TaskRequest;
+import com.projectmanager.backend.dto.response.TaskImportResponse;
+import com.projectmanager.backend.dto.response.TaskImportResponse.RowError;
+import com.projectmanager.backend.exception.ResourceNotFoundException;
+import com.projectmanager.backend.mapper.TaskMapper;
+import com.projectmanager.backend.model.Task;
+import com.projectmanager.backend.model.UuidV7;
+import com.projectmanager.backend.repository.ProjectCounterRepository;
+import com.projectmanager.backend.repository.ProjectRepository;
+import com.projectmanager.backend.repository.TaskImportRepository;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+import tools.jackson.core.JacksonException;
+import tools.jackson.databind.ObjectMapper;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+/**
+ * Imports tasks from a streamed NDJSON or CSV body.
+ * Rows are validated against the TaskRequest rules and written in JDBC batches, one transaction per chunk,
+ * so a bad row or a failed chunk never rolls back what was already imported.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class TaskImportService {
+    static final int MAX_REPORTED_ERRORS = 100;
+
+    public enum Format {
+        NDJSON, CSV
+    }
+
+    private final ProjectRepository projectRepository;
+    private final ProjectCounterRepository projectCounterRepository;
+    private final TaskImportRepository taskImportRepository;
+    private final TaskMapper taskMapper;
+    private final Validator validator;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+    private final SearchService searchService;
+    private final SyncService syncService;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Value("${app.importBatchSize:1000}")
+    private int batchSize = 1000;
+
+    public TaskImportResponse importTasks(UUID projectId, Format format, InputStream body, String userEmail) {
+        UUID ownerId = projectRepository.findOwnerIdByIdAndUserEmail(projectId, userEmail)
+                .orElseThrow(() -> new ResourceNotFoundException("Project not found"));
+
+        ImportState state = new ImportState();
+        List<Task> chunk = new ArrayList<>(batchSize);
+        long chunkStartLine = 1;
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(body, StandardCharsets.UTF_8))) {
+            String line;
+            long lineNumber = 0;
+            CsvColumns columns = null;
+            if (format == Format.CSV) {
+                String header = reader.readLine();
+                lineNumber++;
+                columns = header == null ? null : CsvColumns.fromHeader(header);
+            }
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                if (line.isBlank()) {
+                    continue;
+                }
+                if (chunk.isEmpty()) {
+                    chunkStartLine = lineNumber;
+                }
+                Task task = parseRow(line, lineNumber, columns, state);
+                if (task != null) {
+                    chunk.add(task);
+                }
+                if (chunk.size() >= batchSize) {
+                    writeChunk(ownerId, projectId, chunk, chunkStartLine, lineNumber, state);
+                    chunk.clear();
+                }
+            }
+            if (!chunk.isEmpty()) {
+                writeChunk(ownerId, projectId, chunk, chunkStartLine, lineNumber, state);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        if (state.imported > 0) {
+            eventPublisher.publishEvent(EntityChangedEvent.project(userEmail, projectId, EntityChangedEvent.UPSERT));
+        }
+        log.info("Tasks imported. Project ID: {}, Imported: {}, Failed: {}, User: {}",
+                projectId, state.imported, state.failed, userEmail);
+        return TaskImportResponse.builder()
+                .imported(state.imported)
+                .failed(state.failed)
+                .errors(state.errors)
+                .build();
+    }
+
+    // Columns are null for NDJSON
+    private Task parseRow(String line, long lineNumber, CsvColumns columns, ImportState state) {
+        TaskRequest request;
+        try {
+            request = columns != null ? columns.parse(line) : objectMapper.readValue(line, TaskRequest.class);
+        } catch (JacksonException | DateTimeParseException | IllegalArgumentException e) {
+            state.reject(lineNumber, "Malformed row");
+            return null;
+        }
+
+        Set<ConstraintViolation<TaskRequest>> violations = validator.validate(request);
+        if (!violations.isEmpty()) {
+            state.reject(lineNumber, violations.stream()
+                    .map(v -> v.getPropertyPath() + ": " + v.getMessage())
+                    .sorted()
+                    .collect(Collectors.joining("; ")));
+            return null;
+        }
+
+        Task task = taskMapper.toEntity(request);
+        task.setId(UuidV7.generate());
+        return task;
+    }
+
+    private void writeChunk(UUID ownerId, UUID projectId, List<Task> chunk, long firstLine, long lastLine,
+            ImportState state) {
+        int completed = (int) chunk.stream().filter(Task::isCompleted).count();
+        try {
+            transactionTemplate.execute(status -> {
+                taskImportRepository.insertBatch(projectId, chunk);
+                projectCounterRepository.adjustTaskCounters(projectId, chunk.size(), completed);
+                searchService.indexNewTasks(ownerId, projectId, chunk);
+                syncService.tasksChanged(ownerId, projectId, chunk.stream().map(Task::getId).toList());
+                return null;
+            });
+            taskImportRepository.evictCachedTasks(projectId);
+            state.imported += chunk.size();
+        } catch (DataAccessException e) {
+            log.warn("Task import chunk failed. Project ID: {}, Lines: {}-{}", projectId, firstLine, lastLine, e);
+            state.failed += chunk.size();
+            state.report(firstLine, "Lines " + firstLine + "-" + lastLine + " could not be saved");
+        }
+    }
+
+    /**
+     * Positions of the CSV columns, read from the header row by name so they can come in any order.
+     * Required: title, description, dueDate. Optional: isCompleted.
+     * A header that does not name them, such as a file starting with a task, fails the whole upload on line 1
+     * rather than losing that row.
+     */
+    static final class CsvColumns {
+        private static final List<String> COLUMNS = List.of("title", "description", "dueDate", "isCompleted");
+        private static final List<String> REQUIRED = COLUMNS.subList(0, 3);
+
+        private final int title;
+        private final int description;
+        private final int dueDate;
+        private final int isCompleted;
+        private final int count;
+
+        private CsvColumns(Map<String, Integer> positions, int count) {
+            this.title = positions.get("title");
+            this.description = positions.get("description");
+            this.dueDate = positions.get("dueDate");
+            this.isCompleted = positions.getOrDefault("isCompleted", -1);
+            this.count = count;
+        }
+
+        static CsvColumns fromHeader(String header) {
+            List<String> names;
+            try {
+                names = splitCsv(header.startsWith("\uFEFF") ? header.substring(1) : header);
+            } catch (IllegalArgumentException e) {
+                throw invalidHeader();
+            }
+            Map<String, Integer> positions = new HashMap<>();
+            for (int i = 0; i < names.size(); i++) {
+                String name = names.get(i).trim();
+                String known = COLUMNS.stream()
+                        .filter(name::equalsIgnoreCase)
+                        .findFirst()
+                        .orElseThrow(TaskImportService::invalidHeader);
+                if (positions.put(known, i) != null) {
+                    throw invalidHeader();
+                }
+            }
+            if (!positions.keySet().containsAll(REQUIRED)) {
+                throw invalidHeader();
+            }
+            return new CsvColumns(positions, names.size());
+        }
+
+        TaskRequest parse(String line) {
+            List<String> fields = splitCsv(line);
+            if (fields.size() != count) {
+                throw new IllegalArgumentException("Expected " + count + " columns");
+            }
+            TaskRequest request = new TaskRequest();
+            request.setTitle(fields.get(title));
+            request.setDescription(fields.get(description));
+            request.setDueDate(fields.get(dueDate).isEmpty() ? null : LocalDate.parse(fields.get(dueDate)));
+            if (isCompleted >= 0 && !fields.get(isCompleted).isEmpty()) {
+                request.setIsCompleted(Boolean.parseBoolean(fields.get(isCompleted)));
+            }
+            return request;
+        }
+    }
+
+    private static IllegalArgumentException invalidHeader() {
+        return new IllegalArgumentException("Line 1: the CSV header must name the columns title, description, "
+                + "dueDate and optionally isCompleted");
+    }
+
+    // RFC 4180 fields on a single line; quoted fields may contain commas and doubled quotes
+    static List<String> splitCsv(String line) {
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    field.append('"');
+                    i++;
+                } else if (c == '"') {
+                    quoted = false;
+                } else {
+                    field.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else {
+                field.append(c);
+            }
+        }
+        if (quoted) {
+            throw new IllegalArgumentException("Unterminated quoted field");
+        }
+        fields.add(field.toString());
+        return fields;
+    }
+
+    private static class ImportState {
+        private int imported;
+        private int failed;
+        private final List<RowError> errors = new ArrayList<>();
+
+        void reject(long line, String message) {
+            failed++;
+            report(line, message);
+        }
+
+        void report(long line, String message) {
+            if (errors.size() < MAX_REPORTED_ERRORS) {
+                errors.add(new RowError(line, message));
+            }
+        }
+    }
+}
@@ -1,67 +1,137 @@
 package com.projectmanager.backend.service;
 
+import com.projectmanager.backend.dto.request.BulkTaskUpdateRequest;
 import com.projectmanager.backend.dto.request.TaskRequest;
+import com.projectmanager.backend.dto.response.BulkTaskUpdateResponse;
+import com.projectmanager.backend.dto.response.CursorPageResponse;
 import com.projectmanager.backend.dto.response.TaskResponse;
 import com.projectmanager.backend.exception.ResourceNotFoundException;
 import com.projectmanager.backend.mapper.TaskMapper;
-import com.projectmanager.backend.model.Project;
 import com.projectmanager.backend.model.Task;
+import com.projectmanager.backend.repository.ProjectCounterRepository;
 import com.projectmanager.backend.repository.ProjectRepository;
 import com.projectmanager.backend.repository.TaskRepository;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.UUID;
-import java.util.stream.Collectors;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import java.time.format.DateTimeParseException;
 
+@Timed("app.service")
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class TaskService {
     private final TaskRepository taskRepository;
     private final ProjectRepository projectRepository;
+    private final ProjectCounterRepository projectCounterRepository;
     private final TaskMapper taskMapper;
+    private final SearchService searchService;
+    private final SyncService syncService;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
     public TaskResponse createTask(UUID projectId, TaskRequest request, String userEmail) {
-        Project project = projectRepository.findById(projectId)
+        UUID ownerId = projectRepository.findOwnerIdByIdAndUserEmail(projectId, userEmail)
                 .orElseThrow(() -> new ResourceNotFoundException("Project not found"));
-
-        validateProjectOwnership(project, userEmail);
         if (request.getDueDate() != null && request.getDueDate().isBefore(LocalDate.now())) {
             throw new IllegalArgumentException("Due date cannot be in the past");
         }
         Task task = taskMapper.toEntity(request);
-        task.setProject(project);
+        // Ownership is already checked, a reference is enough to set the FK
+        task.setProject(projectRepository.getReferenceById(projectId));
 
         Task savedTask = taskRepository.save(task);
+        adjustTaskCounters(projectId, 1, savedTask.isCompleted() ? 1 : 0);
+        searchService.indexNewTasks(ownerId, projectId, List.of(savedTask));
+        syncService.taskChanged(ownerId, projectId, savedTask.getId());
+        eventPublisher.publishEvent(EntityChangedEvent.task(userEmail, savedTask.getId(), projectId,
+                EntityChangedEvent.UPSERT));
         log.info("Task created. ID: {}, Project ID: {}, User: {}", savedTask.getId(), projectId, userEmail);
         return taskMapper.toResponse(savedTask);
     }
 
+    // Changes whenever a task of the project is created, updated or deleted
     @Transactional(readOnly = true)
-    public List<TaskResponse> getTasksByProject(UUID projectId, String userEmail) {
-        Project project = projectRepository.findById(projectId)
+    public String getTaskListVersion(UUID projectId, String userEmail) {
+        ProjectRepository.TaskListVersion version = projectRepository
+                .findTaskListVersionByIdAndUserEmail(projectId, userEmail)
                 .orElseThrow(() -> new ResourceNotFoundException("Project not found"));
+        LocalDateTime lastUpdated = version.getLastUpdated();
+        return version.getProjectVersion() + "-" + version.getCount() + "-"
+                + (version.getVersionSum() == null ? 0 : version.getVersionSum()) + "-"
+                + (lastUpdated == null ? 0 : lastUpdated.toEpochSecond(ZoneOffset.UTC) * 1_000_000
+                        + lastUpdated.getNano() / 1_000);
+    }
 
-        validateProjectOwnership(project, userEmail);
+    @Transactional(readOnly = true)
+    public List<TaskResponse> getTasksByProject(UUID projectId, String userEmail) {
+        if (!projectRepository.existsByIdAndUserEmail(projectId, userEmail)) {
+            throw new ResourceNotFoundException("Project not found");
+        }
 
-        return taskRepository.findByProjectId(projectId).stream()
-                .map(taskMapper::toResponse)
-                .collect(Collectors.toList());
+        return taskRepository.findResponsesByProjectId(projectId);
+    }
+
+    @Transactional(readOnly = true)
+    public CursorPageResponse<TaskResponse> scrollTasksByProject(UUID projectId, String userEmail, Boolean completed,
+            String search, LocalDate dueFrom, LocalDate dueTo, String cursor, int size) {
+        if (!projectRepository.existsByIdAndUserEmail(projectId, userEmail)) {
+            throw new ResourceNotFoundException("Project not found");
+        }
+        if (dueFrom != null && dueTo != null && dueFrom.isAfter(dueTo)) {
+            throw new IllegalArgumentException("dueFrom must not be after dueTo");
+        }
+        int pageSize = CursorCodec.pageSize(size);
+        LocalDate dueDate = null;
+        UUID id = null;
+        if (cursor != null && !cursor.isEmpty()) {
+            String[] position = CursorCodec.decode(cursor, 2);
+            try {
+                dueDate = LocalDate.parse(position[0]);
+                id = UUID.fromString(position[1]);
+            } catch (DateTimeParseException e) {
+                throw new IllegalArgumentException("Invalid cursor");
+            }
+        }
+
+        String term = (search == null || search.trim().isEmpty()) ? null : search.trim();
+
+        Limit limit = Limit.of(pageSize + 1);
+        List<TaskResponse> tasks = completed == null
+                ? taskRepository.findPageByProjectIdAfter(projectId, term, dueFrom, dueTo, dueDate, id, limit)
+                : taskRepository.findPageByProjectIdAndCompletedAfter(projectId, completed, term, dueFrom, dueTo,
+                        dueDate, id, limit);
+        boolean hasNext = tasks.size() > pageSize;
+        String nextCursor = null;
+        if (hasNext) {
+            tasks = tasks.subList(0, pageSize);
+            TaskResponse last = tasks.get(tasks.size() - 1);
+            nextCursor = CursorCodec.encode(last.getDueDate(), last.getId());
+        }
+        return CursorPageResponse.<TaskResponse>builder()
+                .items(tasks)
+                .nextCursor(nextCursor)
+                .hasNext(hasNext)
+                .build();
     }
 
     @Transactional
     public TaskResponse updateTask(UUID taskId, TaskRequest request, String userEmail) {
-        Task existingTask = taskRepository.findById(taskId)
+        Task existingTask = taskRepository.findByIdAndOwnerEmail(taskId, userEmail)
                 .orElseThrow(() -> new ResourceNotFoundException("Task not found"));
-
-        validateTaskOwnership(existingTask, userEmail);
+        boolean wasCompleted = existingTask.isCompleted();
 
         existingTask.setTitle(request.getTitle());
         existingTask.setDescription(request.getDescription());
@@ -72,31 +142,74 @@ public class TaskService {
         }
 
         Task updatedTask = taskRepository.save(existingTask);
+        adjustCompletedCounter(updatedTask, wasCompleted);
+        searchService.indexTask(ownerOf(updatedTask), updatedTask);
+        syncService.taskChanged(ownerOf(updatedTask), updatedTask.getProject().getId(), taskId);
+        publishTaskChanged(userEmail, updatedTask);
         log.info("Task updated. ID: {}, User: {}", taskId, userEmail);
         return taskMapper.toResponse(updatedTask);
     }
 
+    @Transactional
+    public BulkTaskUpdateResponse bulkUpdateTasks(UUID projectId, BulkTaskUpdateRequest request, String userEmail) {
+        boolean byIds = request.getTaskIds() != null;
+        if (byIds == (request.getFilter() != null)) {
+            throw new IllegalArgumentException("Provide either taskIds or filter");
+        }
+        if (request.getIsCompleted() == null && request.getDueDate() == null) {
+            throw new IllegalArgumentException("Nothing to update");
+        }
+        if (byIds && request.getTaskIds().isEmpty()) {
+            return new BulkTaskUpdateResponse(0);
+        }
+
+        // One stamp for every touched row, so the change log can find them again; DATETIME(6) keeps microseconds
+        LocalDateTime stamp = LocalDateTime.now().truncatedTo(ChronoUnit.MICROS);
+        int updated = byIds
+                ? taskRepository.bulkUpdateByIds(projectId, userEmail, request.getTaskIds(),
+                        request.getIsCompleted(), request.getDueDate(), stamp)
+                : taskRepository.bulkUpdateByFilter(projectId, userEmail, request.getFilter().getIsCompleted(),
+                        request.getFilter().getDueBefore(), request.getIsCompleted(), request.getDueDate(), stamp);
+
+        // A non-zero count proves ownership; recount once instead of tracking which rows flipped
+        if (updated > 0 && request.getIsCompleted() != null) {
+            projectCounterRepository.recomputeTaskCounters(List.of(projectId));
+        }
+        if (updated > 0) {
+            syncService.tasksUpdatedAt(projectId, stamp);
+            // Several tasks changed; the project event sends clients to /api/sync for the details
+            eventPublisher.publishEvent(EntityChangedEvent.project(userEmail, projectId, EntityChangedEvent.UPSERT));
+        }
+        log.info("Tasks bulk updated. Project ID: {}, Updated: {}, User: {}", projectId, updated, userEmail);
+        return new BulkTaskUpdateResponse(updated);
+    }
+
     @Transactional
     public void deleteTask(UUID taskId, String userEmail) {
-        Task task = taskRepository.findById(taskId)
+        Task task = taskRepository.findByIdAndOwnerEmail(taskId, userEmail)
                 .orElseThrow(() -> new ResourceNotFoundException("Task not found"));
 
-        validateTaskOwnership(task, userEmail);
-
-        taskRepository.deleteById(taskId);
+        taskRepository.delete(task);
+        searchService.removeTask(taskId);
+        syncService.taskDeleted(ownerOf(task), task.getProject().getId(), taskId);
+        eventPublisher.publishEvent(EntityChangedEvent.task(userEmail, taskId, task.getProject().getId(),
+                EntityChangedEvent.DELETE));
+        adjustTaskCounters(task.getProject().getId(), -1, task.isCompleted() ? -1 : 0);
         log.info("Task deleted. ID: {}, User: {}", taskId, userEmail);
     }
 
     @Transactional
     public TaskResponse markTaskAsCompleted(UUID taskId, String userEmail) {
-        Task task = taskRepository.findById(taskId)
+        Task task = taskRepository.findByIdAndOwnerEmail(taskId, userEmail)
                 .orElseThrow(() -> new ResourceNotFoundException("Task not found"));
-
-        validateTaskOwnership(task, userEmail);
+        boolean wasCompleted = task.isCompleted();
 
         task.setCompleted(true);
 
         Task updatedTask = taskRepository.save(task);
+        adjustCompletedCounter(updatedTask, wasCompleted);
+        syncService.taskChanged(ownerOf(updatedTask), updatedTask.getProject().getId(), taskId);
+        publishTaskChanged(userEmail, updatedTask);
 
         log.info("Task marked as completed. ID: {}, User: {}", taskId, userEmail);
 
@@ -105,28 +218,41 @@ public class TaskService {
 
     @Transactional
     public TaskResponse markTaskAsIncomplete(UUID taskId, String userEmail) {
-        Task task = taskRepository.findById(taskId)
+        Task task = taskRepository.findByIdAndOwnerEmail(taskId, userEmail)
                 .orElseThrow(() -> new ResourceNotFoundException("Task not found"));
-
-        validateTaskOwnership(task, userEmail);
+        boolean wasCompleted = task.isCompleted();
 
         task.setCompleted(false); // Set to FALSE
 
         Task updatedTask = taskRepository.save(task);
+        adjustCompletedCounter(updatedTask, wasCompleted);
+        syncService.taskChanged(ownerOf(updatedTask), updatedTask.getProject().getId(), taskId);
+        publishTaskChanged(userEmail, updatedTask);
         log.info("Task marked as incomplete. ID: {}, User: {}", taskId, userEmail);
         return taskMapper.toResponse(updatedTask);
     }
 
-    private void validateTaskOwnership(Task task, String userEmail) {
-        if (!task.getProject().getUser().getEmail().equals(userEmail)) {
-            throw new ResourceNotFoundException("Task not found");
-        }
+    private void publishTaskChanged(String userEmail, Task task) {
+        eventPublisher.publishEvent(EntityChangedEvent.task(userEmail, task.getId(), task.getProject().getId(),
+                EntityChangedEvent.UPSERT));
     }
 
-    private void validateProjectOwnership(Project project, String userEmail) {
-        if (!project.getUser().getEmail().equals(userEmail)) {
-            throw new ResourceNotFoundException("Project not found");
+    // The project is fetched with the task and its owner is a lazy reference, so no query is issued
+    private static UUID ownerOf(Task task) {
+        return task.getProject().getUser().getId();
+    }
+
+    private void adjustCompletedCounter(Task task, boolean wasCompleted) {
+        int completedDelta = task.isCompleted() == wasCompleted ? 0 : (task.isCompleted() ? 1 : -1);
+        adjustTaskCounters(task.getProject().getId(), 0, completedDelta);
+    }
+
+    // Atomic in-database increment so concurrent task mutations cannot lose updates; a no-op leaves the project alone
+    private void adjustTaskCounters(UUID projectId, int totalDelta, int completedDelta) {
+        if (totalDelta != 0 || completedDelta != 0) {
+            projectCounterRepository.adjustTaskCounters(projectId, totalDelta, completedDelta);
         }
     }
 
+
 }
\ No newline at end of file
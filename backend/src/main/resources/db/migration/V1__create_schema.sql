@@ -0,0 +1,32 @@
+-- Base schema: the tables ddl-auto=update created before migrations were introduced.
+-- Existing databases are baselined at this version, so it must not change; later changes go in new versions.
+
+CREATE TABLE users (
+    id       BINARY(16)   NOT NULL,
+    email    VARCHAR(255) NOT NULL,
+    password VARCHAR(255) NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT uk_users_email UNIQUE (email)
+);
+
+CREATE TABLE projects (
+    id          BINARY(16)   NOT NULL,
+    user_id     BINARY(16)   NOT NULL,
+    title       VARCHAR(255) NOT NULL,
+    description VARCHAR(255),
+    created_at  DATETIME(6)  NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT fk_projects_user FOREIGN KEY (user_id) REFERENCES users (id)
+);
+
+CREATE TABLE tasks (
+    id          BINARY(16)   NOT NULL,
+    project_id  BINARY(16)   NOT NULL,
+    title       VARCHAR(255) NOT NULL,
+    description VARCHAR(255) NOT NULL,
+    due_date    DATE         NOT NULL,
+    completed   BIT          DEFAULT 0,
+    created_at  DATETIME(6)  NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT fk_tasks_project FOREIGN KEY (project_id) REFERENCES projects (id)
+);
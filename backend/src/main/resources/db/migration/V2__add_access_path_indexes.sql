@@ -0,0 +1,7 @@
+-- One index per access path. Each also serves as the index InnoDB needs for the foreign key on its leading column.
+
+-- Dashboard listing: owner's projects newest first, offset and keyset pagination
+CREATE INDEX idx_projects_user_created ON projects (user_id, created_at, id);
+
+-- Task listings, completion filter, due date ordering and the counter recount
+CREATE INDEX idx_tasks_project_completed_due ON tasks (project_id, completed, due_date);
@@ -0,0 +1,16 @@
+-- Inverted index for project and task search, maintained by SearchService.
+-- One row per (owner, term, entity, field); terms are UTF-8 bytes so matching is exact regardless of collation.
+
+CREATE TABLE search_terms (
+    owner_id    BINARY(16)    NOT NULL,
+    term        VARBINARY(16) NOT NULL,
+    entity_id   BINARY(16)    NOT NULL,
+    field       CHAR(1)       NOT NULL,
+    entity_type CHAR(1)       NOT NULL,
+    project_id  BINARY(16)    NOT NULL,
+    PRIMARY KEY (owner_id, term, entity_id, field)
+);
+
+CREATE INDEX idx_search_terms_entity ON search_terms (entity_id);
+
+CREATE INDEX idx_search_terms_project ON search_terms (project_id);
@@ -0,0 +1,14 @@
+-- Optimistic-lock versions and last-modified times, the source of the HTTP ETags.
+-- Every task mutation also bumps the owning project, so a project version covers its task list.
+
+ALTER TABLE projects ADD COLUMN version BIGINT DEFAULT 0 NOT NULL;
+
+ALTER TABLE projects ADD COLUMN updated_at DATETIME(6) DEFAULT CURRENT_TIMESTAMP(6) NOT NULL;
+
+UPDATE projects SET updated_at = created_at;
+
+ALTER TABLE tasks ADD COLUMN version BIGINT DEFAULT 0 NOT NULL;
+
+ALTER TABLE tasks ADD COLUMN updated_at DATETIME(6) DEFAULT CURRENT_TIMESTAMP(6) NOT NULL;
+
+UPDATE tasks SET updated_at = created_at;
@@ -0,0 +1,26 @@
+-- Append-only log of project and task changes per owner, read by the delta sync endpoint.
+-- op is U (created or updated) or D (deleted); a project tombstone covers all of its tasks.
+
+CREATE TABLE change_log (
+    seq         BIGINT        NOT NULL AUTO_INCREMENT,
+    owner_id    BINARY(16)    NOT NULL,
+    entity_type CHAR(1)       NOT NULL,
+    entity_id   BINARY(16)    NOT NULL,
+    project_id  BINARY(16)    NOT NULL,
+    op          CHAR(1)       NOT NULL,
+    changed_at  DATETIME(6)   NOT NULL,
+    PRIMARY KEY (seq)
+);
+
+CREATE INDEX idx_change_log_owner_seq ON change_log (owner_id, seq);
+
+CREATE INDEX idx_change_log_changed_at ON change_log (changed_at);
+
+-- Highest sequence removed by retention pruning; older sync cursors can no longer be served
+CREATE TABLE change_log_pruned (
+    id             INTEGER NOT NULL,
+    pruned_through BIGINT  NOT NULL,
+    PRIMARY KEY (id)
+);
+
+INSERT INTO change_log_pruned (id, pruned_through) VALUES (1, 0);
@@ -0,0 +1,10 @@
+-- Denormalized task counters on projects, kept in sync by TaskService.
+-- Backfilled here so existing projects report their progress right after the upgrade.
+
+ALTER TABLE projects ADD COLUMN total_tasks INTEGER DEFAULT 0 NOT NULL;
+
+ALTER TABLE projects ADD COLUMN completed_tasks INTEGER DEFAULT 0 NOT NULL;
+
+UPDATE projects p SET
+    total_tasks = (SELECT COUNT(*) FROM tasks t WHERE t.project_id = p.id),
+    completed_tasks = (SELECT COUNT(*) FROM tasks t WHERE t.project_id = p.id AND t.completed = TRUE);
@@ -0,0 +1,10 @@
+-- Version of the term derivation the search_terms rows were built with, maintained by SearchService.
+-- 0 means never built: existing projects and tasks are indexed on the next startup.
+
+CREATE TABLE search_index_state (
+    id            INTEGER NOT NULL,
+    index_version INTEGER NOT NULL,
+    PRIMARY KEY (id)
+);
+
+INSERT INTO search_index_state (id, index_version) VALUES (1, 0);
@@ -0,0 +1,10 @@
+-- Heartbeat written to the primary by ReplicaRoutingDataSource and read back from each replica;
+-- the age of a replica's copy is its replication lag.
+
+CREATE TABLE replication_heartbeat (
+    id      INTEGER     NOT NULL,
+    beat_at DATETIME(6) NOT NULL,
+    PRIMARY KEY (id)
+);
+
+INSERT INTO replication_heartbeat (id, beat_at) VALUES (1, CURRENT_TIMESTAMP(6));
@@ -0,0 +1,5 @@
+-- The unfiltered task scroll binds only project_id and orders by (due_date, id). In idx_tasks_project_completed_due
+-- the completed column sits between them, so every page sorted all of the project's tasks. This index serves that
+-- order directly; the completed filter keeps reading idx_tasks_project_completed_due.
+
+CREATE INDEX idx_tasks_project_due ON tasks (project_id, due_date, id);
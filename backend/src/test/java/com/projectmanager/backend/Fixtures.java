@@ -0,0 +1,38 @@
+package com.projectmanager.backend;
+
+import com.projectmanager.backend.dto.request.ProjectRequest;
+import com.projectmanager.backend.dto.request.TaskRequest;
+
+import java.time.LocalDate;
+
+/**
+ * Request bodies shared by the integration tests.
+ */
+public final class Fixtures {
+
+    private Fixtures() {
+    }
+
+    public static ProjectRequest project(String title) {
+        return project(title, "Fixture");
+    }
+
+    public static ProjectRequest project(String title, String description) {
+        ProjectRequest request = new ProjectRequest();
+        request.setTitle(title);
+        request.setDescription(description);
+        return request;
+    }
+
+    public static TaskRequest task(String title) {
+        return task(title, "d");
+    }
+
+    public static TaskRequest task(String title, String description) {
+        TaskRequest request = new TaskRequest();
+        request.setTitle(title);
+        request.setDescription(description);
+        request.setDueDate(LocalDate.now().plusDays(1));
+        return request;
+    }
+}
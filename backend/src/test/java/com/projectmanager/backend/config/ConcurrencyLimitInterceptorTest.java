@@ -0,0 +1,51 @@
+package com.projectmanager.backend.config;
+
+import com.projectmanager.backend.exception.ServiceUnavailableException;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ConcurrencyLimitInterceptorTest {
+
+    private final ConcurrencyLimitInterceptor interceptor = new ConcurrencyLimitInterceptor(2, 10);
+    private final MockHttpServletResponse response = new MockHttpServletResponse();
+
+    @Test
+    void preHandle_ShouldRejectWhenSaturated_AndAdmitAfterRelease() throws Exception {
+        MockHttpServletRequest first = new MockHttpServletRequest();
+        MockHttpServletRequest second = new MockHttpServletRequest();
+        assertTrue(interceptor.preHandle(first, response, null));
+        assertTrue(interceptor.preHandle(second, response, null));
+
+        assertThrows(ServiceUnavailableException.class,
+                () -> interceptor.preHandle(new MockHttpServletRequest(), response, null));
+
+        interceptor.afterCompletion(first, response, null, null);
+        assertTrue(interceptor.preHandle(new MockHttpServletRequest(), response, null));
+    }
+
+    @Test
+    void asyncRequest_ShouldReleaseOnce() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        interceptor.preHandle(request, response, null);
+
+        interceptor.afterConcurrentHandlingStarted(request, response, null);
+        interceptor.afterCompletion(request, response, null, null);
+
+        assertEquals(2, interceptor.getAvailablePermits());
+    }
+
+    @Test
+    void rejectedRequest_ShouldNotReleaseAPermit() throws Exception {
+        ConcurrencyLimitInterceptor single = new ConcurrencyLimitInterceptor(1, 10);
+        single.preHandle(new MockHttpServletRequest(), response, null);
+        MockHttpServletRequest rejected = new MockHttpServletRequest();
+
+        assertThrows(ServiceUnavailableException.class, () -> single.preHandle(rejected, response, null));
+        single.afterCompletion(rejected, response, null, null);
+
+        assertEquals(0, single.getAvailablePermits());
+    }
+}
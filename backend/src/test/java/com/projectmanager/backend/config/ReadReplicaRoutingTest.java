@@ -0,0 +1,164 @@
+package com.projectmanager.backend.config;
+
+import com.projectmanager.backend.dto.response.ProjectResponse;
+import com.projectmanager.backend.dto.response.SyncResponse;
+import com.projectmanager.backend.repository.JdbcUuid;
+import com.projectmanager.backend.service.AuthService;
+import com.projectmanager.backend.service.ProjectService;
+import com.projectmanager.backend.service.SyncService;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import javax.sql.DataSource;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static com.projectmanager.backend.Fixtures.project;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Two local H2 databases stand in for the primary and a replica that never receives the writes,
+ * so the row counts show which one served a read. The third URL points at nothing. Replication lag is
+ * simulated by setting the replica's heartbeat row by hand.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=" + ReadReplicaRoutingTest.PRIMARY_URL,
+        "app.replicaUrls=" + ReadReplicaRoutingTest.REPLICA_URL + ",jdbc:h2:tcp://localhost:1/unreachable",
+        "app.replicaConnectionTimeoutMs=250",
+        "app.replicaHealthCheckMs=3600000",
+        "app.replicaMaxLagMs=60000",
+        "app.readYourWritesMs=3660000",
+        "app.syncSettleMs=0"
+})
+class ReadReplicaRoutingTest {
+    static final String PRIMARY_URL = "jdbc:h2:mem:routing_primary;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1";
+    static final String REPLICA_URL = "jdbc:h2:mem:routing_replica;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1";
+    private static final String COUNT_USER = "SELECT COUNT(*) FROM users WHERE email = ?";
+
+    @Autowired
+    private DataSource dataSource;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+    @Autowired
+    @Qualifier("replicaRoutingDataSource")
+    private ReplicaRoutingDataSource replicaRoutingDataSource;
+    @Autowired
+    private AuthService authService;
+    @Autowired
+    private ProjectService projectService;
+    @Autowired
+    private SyncService syncService;
+
+    @BeforeAll
+    static void migrateReplica() {
+        Flyway.configure().dataSource(REPLICA_URL, "sa", "").load().migrate();
+    }
+
+    @AfterEach
+    void clearSecurityContext() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void readOnlyTransaction_ShouldBeServedByAReplica_AndWritesByThePrimary() {
+        String email = register();
+
+        assertEquals(0, count(true, email));
+        assertEquals(1, count(false, email));
+    }
+
+    @Test
+    void unreachableReplica_ShouldLeaveTheRotation_WithoutFailingReads() {
+        String email = register();
+
+        for (int i = 0; i < 4; i++) {
+            assertEquals(0, count(true, email));
+        }
+        assertEquals(1, replicaRoutingDataSource.getHealthyReplicaCount());
+    }
+
+    @Test
+    void laggingReplica_ShouldLeaveTheRotation_UntilItCatchesUp() {
+        String email = register();
+        JdbcTemplate replica = new JdbcTemplate(new DriverManagerDataSource(REPLICA_URL, "sa", ""));
+        try {
+            replica.update("UPDATE replication_heartbeat SET beat_at = ? WHERE id = 1",
+                    Timestamp.valueOf(LocalDateTime.now().minusMinutes(10)));
+            replicaRoutingDataSource.checkHealth();
+
+            assertEquals(0, replicaRoutingDataSource.getHealthyReplicaCount());
+            assertEquals(1, count(true, email));
+        } finally {
+            // Replication resumes and carries the primary's heartbeat across
+            replica.update("UPDATE replication_heartbeat SET beat_at = ? WHERE id = 1",
+                    Timestamp.valueOf(LocalDateTime.now()));
+            replicaRoutingDataSource.checkHealth();
+        }
+        assertEquals(1, replicaRoutingDataSource.getHealthyReplicaCount());
+        assertEquals(0, count(true, email));
+    }
+
+    @Test
+    void recentWriter_ShouldReadTheirOwnWritesFromThePrimary() {
+        String email = register();
+        projectService.createProject(project("Fresh"), email);
+
+        assertEquals(0, count(true, email));
+        SecurityContextHolder.getContext()
+                .setAuthentication(new UsernamePasswordAuthenticationToken(email, null, List.of()));
+        assertEquals(1, count(true, email));
+    }
+
+    @Test
+    void sync_ShouldReadTheChangeLogFromThePrimary_WhenAReplicaMissesAnEarlierEntry() {
+        String email = register();
+        UUID ownerId = JdbcUuid.fromBytes(new JdbcTemplate(dataSource)
+                .queryForObject("SELECT id FROM users WHERE email = ?", byte[].class, email));
+        String cursor = syncService.sync(ownerId, null, 100).getCursor();
+        UUID first = projectService.createProject(project("First"), email).getId();
+        UUID second = projectService.createProject(project("Second"), email).getId();
+
+        // The replica has applied the later entry, long settled, but not the earlier one
+        Map<String, Object> later = new JdbcTemplate(dataSource)
+                .queryForMap("SELECT * FROM change_log WHERE entity_id = ?", (Object) JdbcUuid.toBytes(second));
+        new JdbcTemplate(new DriverManagerDataSource(REPLICA_URL, "sa", "")).update("INSERT INTO change_log "
+                + "(seq, owner_id, entity_type, entity_id, project_id, op, changed_at) VALUES (?, ?, ?, ?, ?, ?, ?)",
+                later.get("seq"), later.get("owner_id"), later.get("entity_type"), later.get("entity_id"),
+                later.get("project_id"), later.get("op"), Timestamp.valueOf(LocalDateTime.now().minusHours(1)));
+
+        SyncResponse delta = syncService.sync(ownerId, cursor, 100);
+        assertEquals(List.of(first, second), delta.getProjects().stream().map(ProjectResponse::getId).toList());
+    }
+
+    private String register() {
+        String email = UUID.randomUUID() + "@test.com";
+        authService.registerUser(email, "password");
+        return email;
+    }
+
+    // Each read stands for a request of its own, which the router may send to a different target
+    private int count(boolean readOnly, String email) {
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest()));
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        transaction.setReadOnly(readOnly);
+        return transaction.execute(status -> new JdbcTemplate(dataSource).queryForObject(COUNT_USER, Integer.class,
+                email));
+    }
+}
@@ -0,0 +1,167 @@
+package com.projectmanager.backend.config;
+
+import com.projectmanager.backend.model.User;
+import com.projectmanager.backend.repository.JdbcUuid;
+import com.projectmanager.backend.repository.UserRepository;
+import com.projectmanager.backend.security.JwtUtils;
+import com.projectmanager.backend.service.AuthService;
+import com.projectmanager.backend.service.ProjectService;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.simple.SimpleJdbcInsert;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.json.JsonMapper;
+
+import javax.sql.DataSource;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+import static com.projectmanager.backend.Fixtures.project;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Two replicas that never receive the writes: the fresh one holds the project as renamed, the lagging one the
+ * version before. The query cache is off so every request reaches a replica. Each response must pair the ETag
+ * and the body from the same replica, whichever one served it.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=" + ReplicaReadConsistencyTest.PRIMARY_URL,
+        "app.replicaUrls=" + ReplicaReadConsistencyTest.FRESH_URL + "," + ReplicaReadConsistencyTest.LAGGING_URL,
+        "app.replicaHealthCheckMs=3600000",
+        "app.replicaMaxLagMs=60000",
+        "app.readYourWritesMs=3660000",
+        "spring.jpa.properties.hibernate.cache.use_query_cache=false"
+})
+@AutoConfigureMockMvc
+class ReplicaReadConsistencyTest {
+    static final String PRIMARY_URL = "jdbc:h2:mem:consistency_primary;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1";
+    static final String FRESH_URL = "jdbc:h2:mem:consistency_fresh;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1";
+    static final String LAGGING_URL = "jdbc:h2:mem:consistency_lagging;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1";
+
+    @Autowired
+    private MockMvc mockMvc;
+    @Autowired
+    private DataSource dataSource;
+    @Autowired
+    private AuthService authService;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private ProjectService projectService;
+    @Autowired
+    private JwtUtils jwtUtils;
+    @Autowired
+    private JsonMapper jsonMapper;
+
+    private String token;
+    private UUID projectId;
+
+    @BeforeAll
+    static void migrateReplicas() {
+        Flyway.configure().dataSource(FRESH_URL, "sa", "").load().migrate();
+        Flyway.configure().dataSource(LAGGING_URL, "sa", "").load().migrate();
+    }
+
+    @BeforeEach
+    void setUp() {
+        String email = UUID.randomUUID() + "@test.com";
+        authService.registerUser(email, "password");
+        User user = userRepository.findByEmail(email).orElseThrow();
+        token = jwtUtils.generateToken(email, user.getId());
+        // Created by another account, so the reader never counts as a recent writer and its reads use the replicas
+        String writer = UUID.randomUUID() + "@test.com";
+        authService.registerUser(writer, "password");
+        projectId = projectService.createProject(project("Draft"), writer).getId();
+
+        JdbcTemplate primary = new JdbcTemplate(dataSource);
+        Map<String, Object> userRow = primary.queryForMap("SELECT * FROM users WHERE email = ?", email);
+        Map<String, Object> projectRow = new HashMap<>(primary.queryForMap("SELECT * FROM projects WHERE id = ?",
+                (Object) JdbcUuid.toBytes(projectId)));
+        projectRow.put("user_id", userRow.get("id"));
+        long version = ((Number) projectRow.get("version")).longValue();
+
+        insert(LAGGING_URL, "users", userRow);
+        insert(LAGGING_URL, "projects", projectRow);
+        projectRow.put("title", "Renamed");
+        projectRow.put("version", version + 1);
+        insert(FRESH_URL, "users", userRow);
+        insert(FRESH_URL, "projects", projectRow);
+    }
+
+    @Test
+    void projectEtag_ShouldMatchTheBody_WhicheverReplicaServesIt() throws Exception {
+        Set<String> titles = new HashSet<>();
+        for (int i = 0; i < 4; i++) {
+            MvcResult result = mockMvc.perform(get("/api/projects/{id}", projectId)
+                            .header("Authorization", "Bearer " + token))
+                    .andExpect(status().isOk())
+                    .andReturn();
+            String title = jsonMapper.readTree(result.getResponse().getContentAsString()).get("title").asString();
+            titles.add(title);
+
+            String etag = result.getResponse().getHeader("ETag");
+            assertEquals(etagOf(title), etag, "ETag and body came from different replicas");
+        }
+        assertEquals(Set.of("Draft", "Renamed"), titles, "Both replicas should have served reads");
+    }
+
+    @Test
+    void projectListEtag_ShouldMatchTheBody_WhicheverReplicaServesIt() throws Exception {
+        Map<String, String> etags = new HashMap<>();
+        for (int i = 0; i < 4; i++) {
+            MvcResult result = mockMvc.perform(get("/api/projects").header("Authorization", "Bearer " + token))
+                    .andExpect(status().isOk())
+                    .andReturn();
+            JsonNode content = jsonMapper.readTree(result.getResponse().getContentAsString()).get("content");
+            String title = content.get(0).get("title").asString();
+
+            String etag = result.getResponse().getHeader("ETag");
+            String previous = etags.putIfAbsent(title, etag);
+            assertEquals(previous == null ? etag : previous, etag, "ETag and body came from different replicas");
+        }
+        assertEquals(2, etags.size(), "Both replicas should have served reads");
+        assertNotEquals(etags.get("Draft"), etags.get("Renamed"));
+    }
+
+    @Test
+    void readYourWritesWindow_ShouldCoverTheMaxLagAndOneHealthCheck() {
+        ReadReplicaConfig config = new ReadReplicaConfig();
+        ReflectionTestUtils.setField(config, "replicaMaxLagMs", 5000L);
+        ReflectionTestUtils.setField(config, "replicaHealthCheckMs", 1000L);
+        ReflectionTestUtils.setField(config, "readYourWritesMaxUsers", 100L);
+
+        ReflectionTestUtils.setField(config, "readYourWritesMs", 5000L);
+        IllegalStateException e = assertThrows(IllegalStateException.class, config::readYourWritesTracker);
+        assertTrue(e.getMessage().contains("app.readYourWritesMs"));
+
+        ReflectionTestUtils.setField(config, "readYourWritesMs", 6000L);
+        assertNotNull(config.readYourWritesTracker());
+    }
+
+    private String etagOf(String title) {
+        long version = new JdbcTemplate(new DriverManagerDataSource(
+                title.equals("Renamed") ? FRESH_URL : LAGGING_URL, "sa", ""))
+                .queryForObject("SELECT version FROM projects WHERE id = ?", Long.class,
+                        (Object) JdbcUuid.toBytes(projectId));
+        return "\"" + version + "\"";
+    }
+
+    private static void insert(String url, String table, Map<String, Object> row) {
+        new SimpleJdbcInsert(new DriverManagerDataSource(url, "sa", "")).withTableName(table).execute(row);
+    }
+}
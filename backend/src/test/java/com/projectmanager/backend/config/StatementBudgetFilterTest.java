@@ -0,0 +1,111 @@
+package com.projectmanager.backend.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.Statement;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class StatementBudgetFilterTest {
+
+    private final StatementCountingDataSource dataSource = new StatementCountingDataSource(h2());
+    private final MeterRegistry registry = new SimpleMeterRegistry();
+    private final MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/projects/42/tasks");
+    private final MockHttpServletResponse response = new MockHttpServletResponse();
+
+    StatementBudgetFilterTest() {
+        request.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, "/api/projects/{id}/tasks");
+    }
+
+    @Test
+    void requestWithinBudget_ShouldOnlyBeMeasured() throws Exception {
+        filter(10, 5).doFilter(request, response, prepared(3));
+
+        assertEquals(3, registry.get("app.statements").tag("uri", "/api/projects/{id}/tasks").summary().max());
+        assertNull(registry.find("app.statements.flagged").counter());
+        assertNull(request.getAttribute(StatementBudgetFilter.FLAGGED_ATTRIBUTE));
+    }
+
+    @Test
+    void repeatedPreparedStatement_ShouldBeReportedOnTheRequest() throws Exception {
+        filter(10, 5).doFilter(request, response, prepared(5));
+
+        String flagged = (String) request.getAttribute(StatementBudgetFilter.FLAGGED_ATTRIBUTE);
+        assertTrue(flagged.contains("GET /api/projects/{id}/tasks"));
+        assertTrue(flagged.contains("5x SELECT ?"));
+        assertEquals(1, registry.get("app.statements.flagged").tag("reason", "repeated").counter().count());
+    }
+
+    @Test
+    void plainStatementsWithDifferentLiterals_ShouldShareAShape() throws Exception {
+        filter(10, 5).doFilter(request, response, (req, res) -> {
+            try (Connection connection = dataSource.getConnection();
+                 Statement statement = connection.createStatement()) {
+                for (int i = 0; i < 5; i++) {
+                    statement.executeQuery("SELECT " + i + ", 'title " + i + "'");
+                }
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+        });
+
+        assertEquals(1, registry.get("app.statements.flagged").tag("reason", "repeated").counter().count());
+    }
+
+    @Test
+    void requestOverBudget_ShouldBeFlagged() throws Exception {
+        filter(2, 5).doFilter(request, response, prepared(3));
+
+        assertEquals(1, registry.get("app.statements.flagged").tag("reason", "budget").counter().count());
+    }
+
+    @Test
+    void unsampledRequest_ShouldNotBeRecorded() throws Exception {
+        new StatementBudgetFilter(10, 5, 0, registry).doFilter(request, response, prepared(5));
+
+        assertNull(registry.find("app.statements").summary());
+    }
+
+    @Test
+    void connectionOutsideARequest_ShouldNotBeWrapped() throws Exception {
+        try (Connection connection = dataSource.getConnection()) {
+            assertFalse(Proxy.isProxyClass(connection.getClass()));
+        }
+    }
+
+    private StatementBudgetFilter filter(int budget, int repeatThreshold) {
+        return new StatementBudgetFilter(budget, repeatThreshold, 1.0, registry);
+    }
+
+    // Runs the same prepared query, with a different value each time, as an N+1 would
+    private FilterChain prepared(int times) {
+        return (req, res) -> {
+            try (Connection connection = dataSource.getConnection()) {
+                for (int i = 0; i < times; i++) {
+                    try (PreparedStatement statement = connection.prepareStatement("SELECT ?")) {
+                        statement.setInt(1, i);
+                        statement.executeQuery();
+                    }
+                }
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+        };
+    }
+
+    private static JdbcDataSource h2() {
+        JdbcDataSource h2 = new JdbcDataSource();
+        h2.setURL("jdbc:h2:mem:statement_budget");
+        return h2;
+    }
+}
@@ -0,0 +1,24 @@
+package com.projectmanager.backend.config;
+
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.webmvc.test.autoconfigure.MockMvcBuilderCustomizer;
+import org.springframework.context.annotation.Bean;
+
+/**
+ * Fails every MockMvc request that StatementBudgetFilter flagged, so an N+1 or a blown budget fails the test that
+ * issued it. Imported into each @AutoConfigureMockMvc test through
+ * META-INF/spring/org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc.imports.
+ */
+@TestConfiguration(proxyBeanMethods = false)
+public class StrictStatementBudget {
+
+    @Bean
+    MockMvcBuilderCustomizer failFlaggedRequests() {
+        return builder -> builder.alwaysDo(result -> {
+            Object flagged = result.getRequest().getAttribute(StatementBudgetFilter.FLAGGED_ATTRIBUTE);
+            if (flagged != null) {
+                throw new AssertionError("Statement budget exceeded: " + flagged);
+            }
+        });
+    }
+}
@@ -0,0 +1,36 @@
+package com.projectmanager.backend.config;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledForJreRange;
+import org.junit.jupiter.api.condition.JRE;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class VirtualThreadsConfigTest {
+
+    private final ApplicationContextRunner runner = new ApplicationContextRunner()
+            .withUserConfiguration(VirtualThreadsConfig.class, ConcurrencyLimitInterceptor.class);
+
+    @Test
+    @EnabledForJreRange(max = JRE.JAVA_20)
+    void virtualThreads_ShouldRefuseToStartBelowJava21() {
+        runner.withPropertyValues("spring.threads.virtual.enabled=true")
+                .run(context -> assertNotNull(context.getStartupFailure()));
+    }
+
+    @Test
+    @EnabledForJreRange(min = JRE.JAVA_21)
+    void virtualThreads_ShouldStartWithTheConcurrencyLimit() {
+        runner.withPropertyValues("spring.threads.virtual.enabled=true")
+                .run(context -> assertEquals(1, context.getBeansOfType(ConcurrencyLimitInterceptor.class).size()));
+    }
+
+    @Test
+    void platformThreads_ShouldStartWithoutTheConcurrencyLimit() {
+        runner.run(context -> {
+            assertNull(context.getStartupFailure());
+            assertTrue(context.getBeansOfType(ConcurrencyLimitInterceptor.class).isEmpty());
+        });
+    }
+}
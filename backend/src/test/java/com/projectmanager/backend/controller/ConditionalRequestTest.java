@@ -0,0 +1,138 @@
+package com.projectmanager.backend.controller;
+
+import com.projectmanager.backend.model.User;
+import com.projectmanager.backend.repository.UserRepository;
+import com.projectmanager.backend.security.JwtUtils;
+import com.projectmanager.backend.service.AuthService;
+import com.projectmanager.backend.service.ProjectCounterRepairService;
+import com.projectmanager.backend.service.ProjectService;
+import com.projectmanager.backend.service.TaskService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import java.util.UUID;
+
+import static com.projectmanager.backend.Fixtures.project;
+import static com.projectmanager.backend.Fixtures.task;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+class ConditionalRequestTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+    @Autowired
+    private AuthService authService;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private ProjectService projectService;
+    @Autowired
+    private TaskService taskService;
+    @Autowired
+    private ProjectCounterRepairService counterRepairService;
+    @Autowired
+    private JwtUtils jwtUtils;
+
+    private String email;
+    private String token;
+    private UUID projectId;
+
+    @BeforeEach
+    void setUp() {
+        email = UUID.randomUUID() + "@test.com";
+        authService.registerUser(email, "password");
+        User user = userRepository.findByEmail(email).orElseThrow();
+        token = jwtUtils.generateToken(email, user.getId());
+
+        projectId = projectService.createProject(project("Conditional project"), email).getId();
+    }
+
+    @Test
+    void project_ShouldReturn304_UntilATaskChanges() throws Exception {
+        String etag = assertRevalidates(get("/api/projects/{id}", projectId));
+
+        taskService.createTask(projectId, task("Task"), email);
+
+        assertNotEquals(etag, fetch(get("/api/projects/{id}", projectId), etag, 200));
+    }
+
+    @Test
+    void taskList_ShouldReturn304_UntilATaskChanges() throws Exception {
+        String etag = assertRevalidates(get("/api/projects/{id}/tasks", projectId));
+
+        UUID taskId = taskService.createTask(projectId, task("Task"), email).getId();
+        etag = fetch(get("/api/projects/{id}/tasks", projectId), etag, 200);
+
+        // An edit that leaves the counters alone still changes the list
+        taskService.updateTask(taskId, task("Renamed"), email);
+        fetch(get("/api/projects/{id}/tasks", projectId), etag, 200);
+    }
+
+    @Test
+    void project_ShouldKeepItsETag_WhenNothingChanged() throws Exception {
+        UUID taskId = taskService.createTask(projectId, task("Task"), email).getId();
+        taskService.markTaskAsCompleted(taskId, email);
+        String etag = assertRevalidates(get("/api/projects/{id}", projectId));
+
+        // A repeated toggle and a recount of correct counters are both no-ops
+        taskService.markTaskAsCompleted(taskId, email);
+        counterRepairService.repairAll();
+
+        fetch(get("/api/projects/{id}", projectId), etag, 304);
+    }
+
+    @Test
+    void projectList_ShouldReturn304_UntilAProjectChanges() throws Exception {
+        String etag = assertRevalidates(get("/api/projects"));
+
+        UUID secondId = projectService.createProject(project("Second"), email).getId();
+        etag = fetch(get("/api/projects"), etag, 200);
+
+        projectService.deleteProject(secondId, email);
+        fetch(get("/api/projects"), etag, 200);
+    }
+
+    @Test
+    void otherUsersProject_ShouldStay404() throws Exception {
+        String otherEmail = UUID.randomUUID() + "@test.com";
+        authService.registerUser(otherEmail, "password");
+        User other = userRepository.findByEmail(otherEmail).orElseThrow();
+        mockMvc.perform(get("/api/projects/{id}", projectId)
+                        .header("Authorization", "Bearer " + jwtUtils.generateToken(otherEmail, other.getId()))
+                        .header(HttpHeaders.IF_NONE_MATCH, "\"0\""))
+                .andExpect(status().isNotFound());
+    }
+
+    // Fetches once for the ETag, then expects the conditional repeat to be a bodyless 304
+    private String assertRevalidates(MockHttpServletRequestBuilder request) throws Exception {
+        MvcResult first = mockMvc.perform(request.header("Authorization", "Bearer " + token))
+                .andExpect(status().isOk()).andReturn();
+        String etag = first.getResponse().getHeader(HttpHeaders.ETAG);
+        assertNotNull(etag);
+        assertEquals(1, first.getResponse().getHeaders(HttpHeaders.ETAG).size());
+        assertTrue(first.getResponse().getHeader(HttpHeaders.CACHE_CONTROL).contains("no-cache"));
+        fetch(request, etag, 304);
+        return etag;
+    }
+
+    private String fetch(MockHttpServletRequestBuilder request, String etag, int expectedStatus) throws Exception {
+        MvcResult result = mockMvc.perform(request.header("Authorization", "Bearer " + token)
+                        .header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().is(expectedStatus)).andReturn();
+        if (expectedStatus == 304) {
+            assertEquals(0, result.getResponse().getContentLength());
+        }
+        return result.getResponse().getHeader(HttpHeaders.ETAG);
+    }
+}
@@ -0,0 +1,148 @@
+package com.projectmanager.backend.controller;
+
+import com.projectmanager.backend.dto.request.ProjectRequest;
+import com.projectmanager.backend.model.User;
+import com.projectmanager.backend.repository.UserRepository;
+import com.projectmanager.backend.security.JwtUtils;
+import com.projectmanager.backend.service.AuthService;
+import com.projectmanager.backend.service.ChangeStreamService;
+import com.projectmanager.backend.service.ProjectService;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Flow;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Holds thousands of idle event streams against a real Tomcat and checks they cost no request thread each,
+ * then fans one change out to all of them. Too heavy for every build: run it with mvn test -Pload, and size it
+ * with -Dsse.subscribers=N.
+ */
+@Tag("load")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = "app.sseMaxSubscribersPerUser=100000")
+class EventStreamLoadTest {
+    private static final int SUBSCRIBERS = Integer.getInteger("sse.subscribers", 2000);
+    private static final int CONNECT_WAVE = 200;
+
+    @LocalServerPort
+    private int port;
+    @Autowired
+    private AuthService authService;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private ProjectService projectService;
+    @Autowired
+    private ChangeStreamService changeStreamService;
+    @Autowired
+    private JwtUtils jwtUtils;
+
+    @Test
+    void thousandsOfIdleSubscribers_ShouldShareAFewThreads_AndAllReceiveAChange() throws Exception {
+        String email = UUID.randomUUID() + "@test.com";
+        authService.registerUser(email, "password");
+        User user = userRepository.findByEmail(email).orElseThrow();
+        String token = jwtUtils.generateToken(email, user.getId());
+
+        ExecutorService clientExecutor = Executors.newFixedThreadPool(4);
+        HttpClient client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .executor(clientExecutor)
+                .build();
+        HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/api/events"))
+                .header("Authorization", "Bearer " + token)
+                .build();
+        CountDownLatch delivered = new CountDownLatch(SUBSCRIBERS);
+        List<CompletableFuture<HttpResponse<Void>>> streams = new ArrayList<>();
+        int baseline = changeStreamService.getSubscriberCount();
+        try {
+            // Waves keep the connect burst inside the accept backlog
+            for (int opened = 0; opened < SUBSCRIBERS; opened += CONNECT_WAVE) {
+                for (int i = opened; i < Math.min(opened + CONNECT_WAVE, SUBSCRIBERS); i++) {
+                    streams.add(client.sendAsync(request,
+                            HttpResponse.BodyHandlers.fromLineSubscriber(new ChangeListener(delivered))));
+                }
+                int target = baseline + Math.min(opened + CONNECT_WAVE, SUBSCRIBERS);
+                awaitTrue(() -> changeStreamService.getSubscriberCount() >= target, 30);
+            }
+
+            // Tomcat keeps the workers a connect wave spun up; only those not parked on its queue are held
+            long requestThreads = Thread.getAllStackTraces().entrySet().stream()
+                    .filter(thread -> thread.getKey().getName().contains("exec-"))
+                    .filter(thread -> Arrays.stream(thread.getValue())
+                            .noneMatch(frame -> frame.getClassName().endsWith(".TaskQueue")))
+                    .count();
+            assertEquals(baseline + SUBSCRIBERS, changeStreamService.getSubscriberCount());
+            assertTrue(requestThreads < SUBSCRIBERS / 10,
+                    "Idle streams should not hold request threads, found " + requestThreads);
+
+            ProjectRequest project = new ProjectRequest();
+            project.setTitle("Broadcast");
+            project.setDescription("Fan-out fixture");
+            projectService.createProject(project, email);
+
+            assertTrue(delivered.await(30, TimeUnit.SECONDS),
+                    "Undelivered streams: " + delivered.getCount() + " of " + SUBSCRIBERS);
+        } finally {
+            streams.forEach(stream -> stream.cancel(true));
+            clientExecutor.shutdownNow();
+        }
+    }
+
+    private static void awaitTrue(BooleanSupplier condition, int seconds) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(seconds);
+        while (!condition.getAsBoolean()) {
+            assertTrue(System.nanoTime() < deadline, "Timed out waiting for subscribers");
+            Thread.sleep(20);
+        }
+    }
+
+    private static final class ChangeListener implements Flow.Subscriber<String> {
+        private final CountDownLatch delivered;
+        private boolean seen;
+
+        private ChangeListener(CountDownLatch delivered) {
+            this.delivered = delivered;
+        }
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            subscription.request(Long.MAX_VALUE);
+        }
+
+        @Override
+        public void onNext(String line) {
+            if (!seen && line.equals("event:change")) {
+                seen = true;
+                delivered.countDown();
+            }
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+        }
+
+        @Override
+        public void onComplete() {
+        }
+    }
+}
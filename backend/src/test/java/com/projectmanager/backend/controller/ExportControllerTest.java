@@ -0,0 +1,146 @@
+package com.projectmanager.backend.controller;
+
+import com.projectmanager.backend.dto.request.ProjectRequest;
+import com.projectmanager.backend.dto.request.TaskRequest;
+import com.projectmanager.backend.model.User;
+import com.projectmanager.backend.repository.UserRepository;
+import com.projectmanager.backend.security.JwtUtils;
+import com.projectmanager.backend.service.AuthService;
+import com.projectmanager.backend.service.ProjectService;
+import com.projectmanager.backend.service.TaskService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.regex.Pattern;
+
+import static com.projectmanager.backend.Fixtures.project;
+import static com.projectmanager.backend.Fixtures.task;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+class ExportControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+    @Autowired
+    private AuthService authService;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private ProjectService projectService;
+    @Autowired
+    private TaskService taskService;
+    @Autowired
+    private JwtUtils jwtUtils;
+    @Autowired
+    private JsonMapper jsonMapper;
+
+    private String token;
+    private UUID planId;
+    private UUID quotedTaskId;
+    private UUID plainTaskId;
+    private UUID releaseId;
+    private UUID releaseTaskId;
+    private UUID emptyId;
+
+    @BeforeEach
+    void setUp() {
+        String email = UUID.randomUUID() + "@test.com";
+        authService.registerUser(email, "password");
+        User user = userRepository.findByEmail(email).orElseThrow();
+        token = jwtUtils.generateToken(email, user.getId());
+
+        ProjectRequest plan = project("Plan, phase 1", "The \"big\" one");
+        planId = projectService.createProject(plan, email).getId();
+        TaskRequest quoted = task("Say \"hi\", then go", "line one\nline two");
+        quotedTaskId = taskService.createTask(planId, quoted, email).getId();
+        plainTaskId = taskService.createTask(planId, task("Plain"), email).getId();
+        releaseId = projectService.createProject(project("Release"), email).getId();
+        releaseTaskId = taskService.createTask(releaseId, task("Tag"), email).getId();
+        taskService.markTaskAsCompleted(releaseTaskId, email);
+        emptyId = projectService.createProject(project("Empty", "Nothing yet"), email).getId();
+    }
+
+    @Test
+    void ndjson_ShouldFollowEachProjectWithItsTasks() throws Exception {
+        List<JsonNode> records = export("ndjson").lines()
+                .filter(line -> !line.isEmpty())
+                .map(jsonMapper::readTree)
+                .toList();
+
+        assertEquals(List.of("project", "task", "task", "project", "task", "project"),
+                records.stream().map(record -> record.get("type").asString()).toList());
+        assertEquals(List.of(planId, releaseId, emptyId), List.of(id(records.get(0)), id(records.get(3)),
+                id(records.get(5))));
+        assertEquals(Set.of(quotedTaskId, plainTaskId), Set.of(id(records.get(1)), id(records.get(2))));
+
+        JsonNode project = records.get(0);
+        assertEquals(List.of("type", "id", "title", "description", "createdAt"), fieldNames(project));
+        assertEquals("Plan, phase 1", project.get("title").asString());
+        assertEquals("The \"big\" one", project.get("description").asString());
+
+        JsonNode task = records.get(4);
+        assertEquals(List.of("type", "id", "projectId", "title", "description", "dueDate", "completed"),
+                fieldNames(task));
+        assertEquals(releaseId.toString(), task.get("projectId").asString());
+        assertTrue(task.get("completed").asBoolean());
+    }
+
+    @Test
+    void csv_ShouldQuoteFields_AndKeepProjectsWithoutTasks() throws Exception {
+        String csv = export("csv");
+
+        assertTrue(csv.startsWith("project_id,project_title,project_description,project_created_at,"
+                + "task_id,task_title,task_description,task_due_date,task_completed\n"));
+        // Commas, quotes and newlines are quoted, with quotes doubled
+        assertContains(csv, "\n" + planId + ",\"Plan, phase 1\",\"The \"\"big\"\" one\",[^,]+,"
+                + quotedTaskId + ",\"Say \"\"hi\"\", then go\",\"line one\nline two\",\\d{4}-\\d{2}-\\d{2},false\n");
+        assertContains(csv, "\n" + releaseId + ",Release,Fixture,[^,]+," + releaseTaskId
+                + ",Tag,d,\\d{4}-\\d{2}-\\d{2},true\n");
+        // A project without tasks still gets its line, with empty task columns
+        assertContains(csv, "\n" + emptyId + ",Empty,Nothing yet,[^,]+,,,,,\n");
+
+        // Rows come grouped by project, in creation order
+        int lastPlan = csv.lastIndexOf("\n" + planId + ",");
+        assertTrue(lastPlan < csv.indexOf("\n" + releaseId + ","));
+        assertTrue(csv.indexOf("\n" + releaseId + ",") < csv.indexOf("\n" + emptyId + ","));
+    }
+
+    private String export(String format) throws Exception {
+        MvcResult started = mockMvc.perform(get("/api/export").param("format", format)
+                        .header("Authorization", "Bearer " + token))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        return mockMvc.perform(asyncDispatch(started))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString(StandardCharsets.UTF_8);
+    }
+
+    private static UUID id(JsonNode record) {
+        return UUID.fromString(record.get("id").asString());
+    }
+
+    private static List<String> fieldNames(JsonNode record) {
+        return record.propertyNames().stream().toList();
+    }
+
+    private static void assertContains(String csv, String regex) {
+        assertTrue(Pattern.compile(regex).matcher(csv).find(), "No match for " + regex + " in:\n" + csv);
+    }
+}
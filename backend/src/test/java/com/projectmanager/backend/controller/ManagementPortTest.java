@@ -0,0 +1,43 @@
+package com.projectmanager.backend.controller;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalManagementPort;
+import org.springframework.boot.test.web.server.LocalServerPort;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "management.endpoints.web.exposure.include=health,prometheus",
+        "management.server.port=0"
+})
+class ManagementPortTest {
+
+    @LocalServerPort
+    private int port;
+    @LocalManagementPort
+    private int managementPort;
+
+    private final HttpClient client = HttpClient.newHttpClient();
+
+    @Test
+    void prometheus_ShouldOnlyBeServedOnTheManagementPort() throws Exception {
+        HttpResponse<String> scrape = get(managementPort, "/actuator/prometheus");
+        assertEquals(200, scrape.statusCode());
+        assertTrue(scrape.body().contains("hikaricp_connections"));
+        assertEquals(200, get(managementPort, "/actuator/health").statusCode());
+
+        assertEquals(404, get(port, "/actuator/prometheus").statusCode());
+        assertEquals(404, get(port, "/actuator/health").statusCode());
+    }
+
+    private HttpResponse<String> get(int port, String path) throws Exception {
+        return client.send(HttpRequest.newBuilder(URI.create("http://localhost:" + port + path)).build(),
+                HttpResponse.BodyHandlers.ofString());
+    }
+}
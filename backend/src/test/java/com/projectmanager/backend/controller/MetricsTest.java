@@ -0,0 +1,68 @@
+package com.projectmanager.backend.controller;
+
+import com.projectmanager.backend.model.User;
+import com.projectmanager.backend.repository.UserRepository;
+import com.projectmanager.backend.security.JwtUtils;
+import com.projectmanager.backend.service.AuthService;
+import com.projectmanager.backend.service.ProjectService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+class MetricsTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+    @Autowired
+    private MeterRegistry meterRegistry;
+    @Autowired
+    private AuthService authService;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private JwtUtils jwtUtils;
+
+    @Test
+    void request_ShouldBeTimedAtEveryLayer() throws Exception {
+        String email = UUID.randomUUID() + "@test.com";
+        authService.registerUser(email, "password");
+        User user = userRepository.findByEmail(email).orElseThrow();
+        String token = jwtUtils.generateToken(email, user.getId());
+
+        mockMvc.perform(get("/api/projects").header(HttpHeaders.AUTHORIZATION, "Bearer " + token))
+                .andExpect(status().isOk());
+
+        assertTrue(timer("http.server.requests", "uri", "/api/projects").count() >= 1);
+        assertTrue(meterRegistry.get("app.service").tag("class", ProjectService.class.getName())
+                .tag("method", "getUserProjects").timer().count() >= 1);
+        assertTrue(meterRegistry.get("app.service").tag("class", AuthService.class.getName())
+                .tag("method", "registerUser").timer().count() >= 1);
+        assertTrue(timer("auth.jwt.verify", "result", "verified").count() >= 1);
+    }
+
+    @Test
+    void persistenceAndPoolMeters_ShouldBeRegistered() {
+        assertNotNull(meterRegistry.find("hibernate.statements").functionCounter());
+        assertNotNull(meterRegistry.find("hibernate.entities.loads").functionCounter());
+        assertNotNull(meterRegistry.find("hibernate.collections.fetches").functionCounter());
+        assertNotNull(meterRegistry.find("hikaricp.connections.active").gauge());
+        assertNotNull(meterRegistry.find("hikaricp.connections.acquire").timer());
+    }
+
+    private Timer timer(String name, String tag, String value) {
+        return meterRegistry.get(name).tag(tag, value).timer();
+    }
+}
@@ -0,0 +1,128 @@
+package com.projectmanager.backend.controller;
+
+import com.projectmanager.backend.model.User;
+import com.projectmanager.backend.model.UuidV7;
+import com.projectmanager.backend.repository.JdbcUuid;
+import com.projectmanager.backend.repository.UserRepository;
+import com.projectmanager.backend.security.JwtUtils;
+import com.projectmanager.backend.service.AuthService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Every project is inserted with the same createdAt, so each page boundary falls inside a tie
+ * and only the id keeps the pages apart.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+class ProjectScrollTest {
+    private static final int PROJECTS = 105;
+
+    @Autowired
+    private MockMvc mockMvc;
+    @Autowired
+    private AuthService authService;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private JwtUtils jwtUtils;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private JsonMapper jsonMapper;
+
+    private String token;
+    private final Set<UUID> inserted = new HashSet<>();
+
+    @BeforeEach
+    void setUp() {
+        String email = UUID.randomUUID() + "@test.com";
+        authService.registerUser(email, "password");
+        User user = userRepository.findByEmail(email).orElseThrow();
+        token = jwtUtils.generateToken(email, user.getId());
+
+        Timestamp createdAt = Timestamp.valueOf(LocalDateTime.now().truncatedTo(ChronoUnit.MICROS));
+        List<Object[]> rows = new ArrayList<>();
+        for (int i = 0; i < PROJECTS; i++) {
+            UUID id = UuidV7.generate();
+            inserted.add(id);
+            rows.add(new Object[] { JdbcUuid.toBytes(id), JdbcUuid.toBytes(user.getId()), "Project " + i, createdAt,
+                    createdAt });
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO projects (id, user_id, title, description, created_at, updated_at) "
+                + "VALUES (?, ?, ?, 'Tied', ?, ?)", rows);
+    }
+
+    @Test
+    void scroll_ShouldWalkTiedProjects_WithoutDuplicatesOrGaps() throws Exception {
+        List<UUID> walked = new ArrayList<>();
+        List<JsonNode> pages = new ArrayList<>();
+        String cursor = null;
+        do {
+            MockHttpServletRequestBuilder request = get("/api/projects/scroll").param("limit", "10");
+            if (cursor != null) {
+                request.param("cursor", cursor);
+            }
+            JsonNode page = scroll(request);
+            pages.add(page);
+            page.get("items").forEach(item -> walked.add(UUID.fromString(item.get("id").asString())));
+            cursor = page.get("nextCursor").isNull() ? null : page.get("nextCursor").asString();
+        } while (cursor != null);
+
+        assertEquals(PROJECTS, walked.size(), "A project was returned twice or skipped");
+        assertEquals(inserted, Set.copyOf(walked));
+        assertEquals(11, pages.size());
+        assertTrue(pages.subList(0, 10).stream().allMatch(page -> page.get("hasNext").asBoolean()));
+        assertFalse(pages.get(10).get("hasNext").asBoolean());
+        assertEquals(5, pages.get(10).get("items").size());
+    }
+
+    @Test
+    void scroll_ShouldCapThePageSizeAt100() throws Exception {
+        JsonNode page = scroll(get("/api/projects/scroll").param("limit", "1000"));
+
+        assertEquals(100, page.get("items").size());
+        assertTrue(page.get("hasNext").asBoolean());
+    }
+
+    @Test
+    void scroll_ShouldRejectATamperedCursor() throws Exception {
+        String wrongDate = Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(("yesterday|" + UUID.randomUUID()).getBytes(StandardCharsets.UTF_8));
+        for (String cursor : List.of("not-a-cursor", wrongDate)) {
+            mockMvc.perform(get("/api/projects/scroll").param("cursor", cursor)
+                            .header("Authorization", "Bearer " + token))
+                    .andExpect(status().isBadRequest());
+        }
+    }
+
+    private JsonNode scroll(MockHttpServletRequestBuilder request) throws Exception {
+        String body = mockMvc.perform(request.header("Authorization", "Bearer " + token))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        return jsonMapper.readTree(body);
+    }
+}
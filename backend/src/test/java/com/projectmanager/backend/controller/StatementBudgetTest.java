@@ -0,0 +1,190 @@
+package com.projectmanager.backend.controller;
+
+import com.projectmanager.backend.dto.response.TaskResponse;
+import com.projectmanager.backend.model.User;
+import com.projectmanager.backend.repository.UserRepository;
+import com.projectmanager.backend.security.JwtUtils;
+import com.projectmanager.backend.service.AuthService;
+import com.projectmanager.backend.service.ProjectService;
+import com.projectmanager.backend.service.TaskService;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.util.UUID;
+
+import static com.projectmanager.backend.Fixtures.project;
+import static com.projectmanager.backend.Fixtures.task;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Fixed JDBC statement budget per endpoint, counted at the datasource by StatementBudgetFilter, so statements
+ * issued over plain JDBC (search index, change log, import and export) count as well as Hibernate's.
+ * A change that adds lazy loads or per-row queries to a request path fails here.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+class StatementBudgetTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+    @Autowired
+    private AuthService authService;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private ProjectService projectService;
+    @Autowired
+    private TaskService taskService;
+    @Autowired
+    private JwtUtils jwtUtils;
+    @Autowired
+    private MeterRegistry meterRegistry;
+    @Autowired
+    private JsonMapper jsonMapper;
+
+    private String email;
+    private String token;
+    private UUID projectId;
+    private UUID taskId;
+
+    @BeforeEach
+    void setUp() {
+        email = UUID.randomUUID() + "@test.com";
+        authService.registerUser(email, "password");
+        User user = userRepository.findByEmail(email).orElseThrow();
+        token = jwtUtils.generateToken(email, user.getId());
+
+        projectId = projectService.createProject(project("Budget project"), email).getId();
+        for (int i = 0; i < 5; i++) {
+            TaskResponse created = taskService.createTask(projectId, task("Task " + i), email);
+            taskId = created.getId();
+        }
+    }
+
+    @Test
+    void login() throws Exception {
+        assertBudget(1, post("/api/auth/login").contentType(MediaType.APPLICATION_JSON)
+                .content("{\"email\":\"" + email + "\",\"password\":\"password\"}"));
+    }
+
+    @Test
+    void listProjects() throws Exception {
+        // ETag aggregate and the page; the count is skipped while the first page is not full
+        assertBudget(2, get("/api/projects").param("limit", "6"));
+        assertBudget(2, get("/api/projects").param("search", "budget"));
+    }
+
+    @Test
+    void scrollProjects() throws Exception {
+        assertBudget(1, get("/api/projects/scroll").param("limit", "6"));
+    }
+
+    @Test
+    void getProject() throws Exception {
+        // Version for the ETag, then the projection
+        assertBudget(2, get("/api/projects/{id}", projectId));
+    }
+
+    @Test
+    void createProject() throws Exception {
+        // Owner, insert, search terms cleared and written, change log
+        assertBudget(5, post("/api/projects").contentType(MediaType.APPLICATION_JSON)
+                .content(json(project("Another"))));
+    }
+
+    @Test
+    void updateProject() throws Exception {
+        // Load, update, search terms cleared and written, change log
+        assertBudget(5, put("/api/projects/{id}", projectId).contentType(MediaType.APPLICATION_JSON)
+                .content(json(project("Renamed"))));
+    }
+
+    @Test
+    void deleteProject() throws Exception {
+        // Owner check, tasks, search terms, project, change log
+        assertBudget(5, delete("/api/projects/{id}", projectId));
+    }
+
+    @Test
+    void listTasks() throws Exception {
+        // Ownership, ETag aggregate, list
+        assertBudget(3, get("/api/projects/{id}/tasks", projectId));
+        assertBudget(2, get("/api/projects/{id}/tasks/scroll", projectId).param("completed", "false"));
+    }
+
+    @Test
+    void createTask() throws Exception {
+        // Owner check, insert, counter bump, search terms, change log
+        assertBudget(5, post("/api/projects/{id}/tasks", projectId).contentType(MediaType.APPLICATION_JSON)
+                .content(json(task("New task"))));
+    }
+
+    @Test
+    void updateTask() throws Exception {
+        // Load, update, search terms cleared and written, change log
+        assertBudget(5, put("/api/tasks/{id}", taskId).contentType(MediaType.APPLICATION_JSON)
+                .content(json(task("Edited task"))));
+    }
+
+    @Test
+    void toggleTask() throws Exception {
+        // Load, update, counter bump, change log
+        assertBudget(4, patch("/api/tasks/{id}/complete", taskId));
+        assertBudget(4, patch("/api/tasks/{id}/incomplete", taskId));
+    }
+
+    @Test
+    void deleteTask() throws Exception {
+        // Load, delete, counter bump, search terms, change log
+        assertBudget(5, delete("/api/tasks/{id}", taskId));
+    }
+
+    @Test
+    void bulkUpdateTasks() throws Exception {
+        // Set-based update and recount, one change log insert each for the tasks and the project
+        assertBudget(4, patch("/api/projects/{id}/tasks", projectId).contentType(MediaType.APPLICATION_JSON)
+                .content("{\"filter\":{\"isCompleted\":false},\"isCompleted\":true}"));
+    }
+
+    @Test
+    void search() throws Exception {
+        // One ranked read of the index, titles joined in
+        assertBudget(1, get("/api/search").param("q", "task fixture"));
+    }
+
+    // app.statementSampleRate=1.0 in the test properties makes the filter record every request into app.statements
+    private void assertBudget(int budget, MockHttpServletRequestBuilder request) throws Exception {
+        long requestsBefore = recordedRequests();
+        double statementsBefore = recordedStatements();
+        mockMvc.perform(request.header("Authorization", "Bearer " + token))
+                .andExpect(status().is2xxSuccessful());
+        assertEquals(requestsBefore + 1, recordedRequests());
+        long statements = Math.round(recordedStatements() - statementsBefore);
+        assertTrue(statements <= budget, "Expected at most " + budget + " statements but was " + statements);
+    }
+
+    private long recordedRequests() {
+        return meterRegistry.find("app.statements").summaries().stream().mapToLong(DistributionSummary::count).sum();
+    }
+
+    private double recordedStatements() {
+        return meterRegistry.find("app.statements").summaries().stream()
+                .mapToDouble(DistributionSummary::totalAmount).sum();
+    }
+
+    private String json(Object body) {
+        return jsonMapper.writeValueAsString(body);
+    }
+}
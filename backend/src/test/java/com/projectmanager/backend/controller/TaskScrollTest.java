@@ -0,0 +1,172 @@
+package com.projectmanager.backend.controller;
+
+import com.projectmanager.backend.dto.request.TaskRequest;
+import com.projectmanager.backend.model.User;
+import com.projectmanager.backend.repository.UserRepository;
+import com.projectmanager.backend.security.JwtUtils;
+import com.projectmanager.backend.service.AuthService;
+import com.projectmanager.backend.service.ProjectService;
+import com.projectmanager.backend.service.TaskService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import static com.projectmanager.backend.Fixtures.project;
+import static com.projectmanager.backend.Fixtures.task;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+class TaskScrollTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+    @Autowired
+    private AuthService authService;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private ProjectService projectService;
+    @Autowired
+    private TaskService taskService;
+    @Autowired
+    private JwtUtils jwtUtils;
+    @Autowired
+    private JsonMapper jsonMapper;
+
+    private String token;
+    private UUID projectId;
+    private final Set<UUID> completed = new HashSet<>();
+
+    @BeforeEach
+    void setUp() {
+        String email = UUID.randomUUID() + "@test.com";
+        authService.registerUser(email, "password");
+        User user = userRepository.findByEmail(email).orElseThrow();
+        token = jwtUtils.generateToken(email, user.getId());
+        projectId = projectService.createProject(project("Scrolled"), email).getId();
+
+        // Five tasks share a due date, so the pages have to break ties on the id
+        for (int i = 0; i < 7; i++) {
+            TaskRequest request = task((i < 5 ? "Alpha " : "Beta ") + i);
+            if (i >= 5) {
+                request.setDueDate(LocalDate.now().plusDays(3));
+            }
+            UUID taskId = taskService.createTask(projectId, request, email).getId();
+            if (i == 1 || i == 5) {
+                taskService.markTaskAsCompleted(taskId, email);
+                completed.add(taskId);
+            }
+        }
+    }
+
+    @Test
+    void scroll_ShouldWalkToTheEnd_WithoutDuplicatesOrGaps() throws Exception {
+        List<UUID> all = ids(scroll(get(scrollUrl()).param("limit", "100")));
+        assertEquals(7, all.size());
+
+        assertEquals(all, walkedIds());
+        List<JsonNode> pages = walk();
+        assertEquals(List.of(true, true, true, false),
+                pages.stream().map(page -> page.get("hasNext").asBoolean()).toList());
+        assertTrue(pages.get(3).get("nextCursor").isNull());
+    }
+
+    @Test
+    void scroll_ShouldFilterByCompletion_AcrossPages() throws Exception {
+        assertEquals(completed, Set.copyOf(walkedIds("completed", "true")));
+        List<UUID> pending = walkedIds("completed", "false");
+        assertEquals(5, pending.size());
+        assertTrue(pending.stream().noneMatch(completed::contains));
+    }
+
+    @Test
+    void scroll_ShouldSearchTitles_OnTheServer() throws Exception {
+        JsonNode page = scroll(get(scrollUrl()).param("search", "beta").param("limit", "1"));
+        assertEquals(List.of("Beta 5"), titles(page));
+        assertTrue(page.get("hasNext").asBoolean());
+
+        JsonNode next = scroll(get(scrollUrl()).param("search", "beta").param("limit", "1")
+                .param("cursor", page.get("nextCursor").asString()));
+        assertEquals(List.of("Beta 6"), titles(next));
+        assertFalse(next.get("hasNext").asBoolean());
+    }
+
+    @Test
+    void scroll_ShouldRejectATamperedCursor() throws Exception {
+        mockMvc.perform(get(scrollUrl()).param("cursor", "not-a-cursor").header("Authorization", "Bearer " + token))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void scroll_ShouldRejectDueFromAfterDueTo() throws Exception {
+        mockMvc.perform(get(scrollUrl())
+                        .param("dueFrom", LocalDate.now().plusDays(5).toString())
+                        .param("dueTo", LocalDate.now().toString())
+                        .header("Authorization", "Bearer " + token))
+                .andExpect(status().isBadRequest());
+    }
+
+    // Follows nextCursor two tasks at a time until the last page
+    private List<JsonNode> walk(String... params) throws Exception {
+        List<JsonNode> pages = new ArrayList<>();
+        String cursor = null;
+        do {
+            MockHttpServletRequestBuilder request = get(scrollUrl()).param("limit", "2");
+            for (int i = 0; i < params.length; i += 2) {
+                request.param(params[i], params[i + 1]);
+            }
+            if (cursor != null) {
+                request.param("cursor", cursor);
+            }
+            JsonNode page = scroll(request);
+            pages.add(page);
+            cursor = page.get("nextCursor").isNull() ? null : page.get("nextCursor").asString();
+        } while (cursor != null);
+        return pages;
+    }
+
+    private List<UUID> walkedIds(String... params) throws Exception {
+        List<UUID> ids = new ArrayList<>();
+        walk(params).forEach(page -> ids.addAll(ids(page)));
+        return ids;
+    }
+
+    private String scrollUrl() {
+        return "/api/projects/" + projectId + "/tasks/scroll";
+    }
+
+    private JsonNode scroll(MockHttpServletRequestBuilder request) throws Exception {
+        String body = mockMvc.perform(request.header("Authorization", "Bearer " + token))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        return jsonMapper.readTree(body);
+    }
+
+    private static List<UUID> ids(JsonNode page) {
+        List<UUID> ids = new ArrayList<>();
+        page.get("items").forEach(item -> ids.add(UUID.fromString(item.get("id").asString())));
+        return ids;
+    }
+
+    private static List<String> titles(JsonNode page) {
+        List<String> titles = new ArrayList<>();
+        page.get("items").forEach(item -> titles.add(item.get("title").asString()));
+        return titles;
+    }
+}
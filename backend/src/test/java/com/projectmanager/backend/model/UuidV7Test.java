@@ -0,0 +1,28 @@
+package com.projectmanager.backend.model;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class UuidV7Test {
+
+    @Test
+    void generate_ShouldSetVersionAndVariant() {
+        UUID uuid = UuidV7.generate();
+
+        assertEquals(7, uuid.version());
+        assertEquals(2, uuid.variant());
+    }
+
+    @Test
+    void generate_ShouldBeOrderedByTimestamp() {
+        UUID earlier = UuidV7.generate(1_700_000_000_000L);
+        UUID later = UuidV7.generate(1_700_000_000_001L);
+
+        // Unsigned comparison of the high bits, which is how BINARY(16) columns sort
+        assertTrue(Long.compareUnsigned(earlier.getMostSignificantBits(), later.getMostSignificantBits()) < 0);
+        assertEquals(1_700_000_000_000L, earlier.getMostSignificantBits() >>> 16);
+    }
+}
@@ -0,0 +1,72 @@
+package com.projectmanager.backend.repository;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.flyway.autoconfigure.FlywayMigrationStrategy;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Upgrades a database created by ddl-auto=update before migrations existed, the way production is upgraded:
+ * Flyway baselines it at V1 and applies the rest. The context only starts if Hibernate validates the result.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:baseline_upgrade;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1",
+        "spring.flyway.baseline-on-migrate=true",
+        "spring.flyway.baseline-version=1"
+})
+class BaselineMigrationTest {
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void baselineDatabase_ShouldSkipV1_AndApplyTheLaterVersions() {
+        List<String> applied = jdbcTemplate.queryForList("SELECT \"type\" || ':' || \"version\" "
+                + "FROM \"flyway_schema_history\" WHERE \"version\" IS NOT NULL ORDER BY \"installed_rank\"",
+                String.class);
+
+        assertEquals("BASELINE:1", applied.get(0));
+        assertFalse(applied.contains("SQL:1"));
+        assertTrue(applied.contains("SQL:6"));
+    }
+
+    @Test
+    void baselineDatabase_ShouldHaveItsTaskCountersBackfilled() {
+        Map<String, Object> started = counters("Started");
+        Map<String, Object> empty = counters("Empty");
+
+        assertEquals(3, ((Number) started.get("total_tasks")).intValue());
+        assertEquals(1, ((Number) started.get("completed_tasks")).intValue());
+        assertEquals(0, ((Number) empty.get("total_tasks")).intValue());
+        assertEquals(0, ((Number) empty.get("completed_tasks")).intValue());
+    }
+
+    private Map<String, Object> counters(String title) {
+        return jdbcTemplate.queryForMap("SELECT total_tasks, completed_tasks FROM projects WHERE title = ?", title);
+    }
+
+    @TestConfiguration
+    static class BaselineSchema {
+        // Recreates the pre-migration schema before Flyway sees the database
+        @Bean
+        FlywayMigrationStrategy baselineThenMigrate() {
+            return flyway -> {
+                new ResourceDatabasePopulator(new ClassPathResource("db/baseline-schema.sql"))
+                        .execute(flyway.getConfiguration().getDataSource());
+                flyway.migrate();
+            };
+        }
+    }
+}
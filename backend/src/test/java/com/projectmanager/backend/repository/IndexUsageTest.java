@@ -0,0 +1,217 @@
+package com.projectmanager.backend.repository;
+
+import com.projectmanager.backend.config.RequestStatements;
+import com.projectmanager.backend.service.AuthService;
+import com.projectmanager.backend.service.ProjectCounterRepairService;
+import com.projectmanager.backend.service.ProjectService;
+import com.projectmanager.backend.service.SyncService;
+import com.projectmanager.backend.service.TaskService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.flyway.autoconfigure.FlywayMigrationStrategy;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Predicate;
+
+import static com.projectmanager.backend.Fixtures.project;
+import static com.projectmanager.backend.Fixtures.task;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Records the SQL the services actually issue for each access path, runs EXPLAIN on it and checks every read of
+ * a table goes through the index that path was designed for.
+ * Runs on its own database with the index set InnoDB ends up with, see InnoDbIndexes.
+ */
+@SpringBootTest(properties =
+        "spring.datasource.url=jdbc:h2:mem:index_usage;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1")
+class IndexUsageTest {
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private AuthService authService;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private ProjectService projectService;
+    @Autowired
+    private TaskService taskService;
+    @Autowired
+    private SyncService syncService;
+    @Autowired
+    private ProjectCounterRepairService counterRepairService;
+
+    private String email;
+    private UUID projectId;
+    private UUID taskId;
+
+    @BeforeEach
+    void setUp() {
+        email = UUID.randomUUID() + "@test.com";
+        authService.registerUser(email, "password");
+        projectId = projectService.createProject(project("Release plan"), email).getId();
+        taskId = taskService.createTask(projectId, task("Draft notes"), email).getId();
+    }
+
+    @Test
+    void projectListing_ShouldUseOwnerCreatedIndex() {
+        String plan = planOf(() -> projectService.getUserProjects(email, "", 0, 10),
+                sql -> sql.startsWith("select") && sql.contains(" from projects ") && sql.contains(" order by "));
+
+        assertReadsWith(plan, "users", "uk_users_email");
+        assertReadsWith(plan, "projects", "idx_projects_user_created");
+    }
+
+    @Test
+    void projectScroll_ShouldUseOwnerCreatedIndex() {
+        String plan = planOf(() -> projectService.scrollUserProjects(email, null, null, 10),
+                sql -> sql.startsWith("select") && sql.contains(" from projects "));
+
+        assertReadsWith(plan, "users", "uk_users_email");
+        assertReadsWith(plan, "projects", "idx_projects_user_created");
+    }
+
+    @Test
+    void projectTitleSearch_ShouldUseSearchTermsKey() {
+        String plan = planOf(() -> projectService.getUserProjects(email, "plan", 0, 10),
+                sql -> sql.contains(" from search_terms "));
+
+        assertReadsWith(plan, "search_terms", "primary_key");
+    }
+
+    @Test
+    void projectByIdAndOwner_ShouldUsePrimaryKey() {
+        String plan = planOf(() -> projectService.getProjectById(projectId, email),
+                sql -> sql.startsWith("select") && sql.contains(" from projects "));
+
+        assertReadsWith(plan, "projects", "primary_key");
+    }
+
+    @Test
+    void taskList_ShouldUseProjectCompletedDueIndex() {
+        String plan = planOf(() -> taskService.getTasksByProject(projectId, email),
+                sql -> sql.startsWith("select") && sql.contains(" from tasks "));
+
+        assertReadsWith(plan, "tasks", "idx_tasks_project_completed_due");
+    }
+
+    @Test
+    void taskScroll_ShouldUseProjectCompletedDueIndex() {
+        String plan = planOf(() -> taskService.scrollTasksByProject(projectId, email, false, null, LocalDate.now(),
+                        null, null, 10),
+                sql -> sql.startsWith("select") && sql.contains(" from tasks "));
+
+        assertReadsWith(plan, "tasks", "idx_tasks_project_completed_due");
+    }
+
+    @Test
+    void unfilteredTaskScroll_ShouldUseProjectDueIndex_WithoutSort() {
+        String plan = planOf(() -> taskService.scrollTasksByProject(projectId, email, null, null, null, null, null, 10),
+                sql -> sql.startsWith("select") && sql.contains(" from tasks "));
+
+        assertReadsWith(plan, "tasks", "idx_tasks_project_due");
+        assertSortedByIndex(plan);
+    }
+
+    @Test
+    void taskByIdAndOwner_ShouldUsePrimaryKeys() {
+        String plan = planOf(() -> taskService.markTaskAsCompleted(taskId, email),
+                sql -> sql.startsWith("select") && sql.contains(" from tasks "));
+
+        assertReadsWith(plan, "tasks", "primary_key");
+        assertReadsWith(plan, "projects", "primary_key");
+    }
+
+    @Test
+    void taskCounterRecount_ShouldSeekTasksByProject() {
+        String plan = planOf(counterRepairService::repairAll,
+                sql -> sql.startsWith("update projects ") && sql.contains(" from tasks "));
+
+        // The total count only binds project_id, either index leading with it serves it
+        assertReadsWith(plan, "tasks", "idx_tasks_project_completed_due", "idx_tasks_project_due");
+        assertTrue(plan.contains("idx_tasks_project_completed_due: completed = true"),
+                "Expected the completed count to seek idx_tasks_project_completed_due in plan:\n" + plan);
+    }
+
+    @Test
+    void changeLogSince_ShouldUseOwnerSeqIndex() {
+        UUID ownerId = userRepository.findByEmail(email).orElseThrow().getId();
+        String cursor = syncService.sync(ownerId, null, 10).getCursor();
+
+        String plan = planOf(() -> syncService.sync(ownerId, cursor, 10),
+                sql -> sql.contains(" from change_log ") && sql.contains(" order by "));
+
+        assertReadsWith(plan, "change_log", "idx_change_log_owner_seq");
+    }
+
+    @Test
+    void changeLogPosition_ShouldUseOwnerSeqIndex() {
+        UUID ownerId = userRepository.findByEmail(email).orElseThrow().getId();
+
+        String plan = planOf(() -> syncService.sync(ownerId, null, 10),
+                sql -> sql.contains(" from change_log ") && sql.contains(" order by "));
+
+        assertReadsWith(plan, "change_log", "idx_change_log_owner_seq");
+    }
+
+    // Runs the call with statement recording on, then explains the one recorded statement the filter selects
+    private String planOf(Runnable call, Predicate<String> filter) {
+        RequestStatements statements = RequestStatements.start();
+        try {
+            call.run();
+        } finally {
+            statements.stop();
+        }
+        List<String> recorded = statements.getShapes(Integer.MAX_VALUE).stream().map(Map.Entry::getKey).toList();
+        List<String> matching = recorded.stream().filter(sql -> filter.test(sql.toLowerCase())).toList();
+        assertEquals(1, matching.size(), "Expected one matching statement among " + recorded);
+        return String.join("\n", jdbcTemplate.queryForList("EXPLAIN " + matching.get(0), String.class))
+                .toLowerCase();
+    }
+
+    // H2 names the index it reads a table with on the line after the table; every read must use one of the indexes
+    private static void assertReadsWith(String plan, String table, String... indexes) {
+        String[] lines = plan.split("\n");
+        int reads = 0;
+        for (int i = 0; i < lines.length - 1; i++) {
+            if (lines[i].contains("\"public\".\"" + table + "\"")) {
+                reads++;
+                String next = lines[i + 1];
+                assertTrue(Arrays.stream(indexes).anyMatch(next::contains),
+                        "Expected " + table + " to be read with " + String.join(" or ", indexes) + " in plan:\n"
+                                + plan);
+            }
+        }
+        assertTrue(reads > 0, "No read of " + table + " in plan:\n" + plan);
+        assertFalse(plan.contains("tablescan"), "Unexpected full scan in plan:\n" + plan);
+    }
+
+    // H2 marks an ORDER BY it reads off the index instead of sorting
+    private static void assertSortedByIndex(String plan) {
+        assertTrue(plan.contains("/* index sorted */"), "Expected no sort in plan:\n" + plan);
+    }
+
+    @TestConfiguration
+    static class InnoDbIndexes {
+        // InnoDB drops the index it created for a foreign key once a composite index starts with the same column.
+        // H2 keeps a separate index per foreign key and would plan with it, so this database drops the constraints.
+        @Bean
+        FlywayMigrationStrategy migrateWithoutForeignKeyIndexes() {
+            return flyway -> {
+                flyway.migrate();
+                JdbcTemplate jdbc = new JdbcTemplate(flyway.getConfiguration().getDataSource());
+                jdbc.execute("ALTER TABLE tasks DROP CONSTRAINT fk_tasks_project");
+                jdbc.execute("ALTER TABLE projects DROP CONSTRAINT fk_projects_user");
+            };
+        }
+    }
+}
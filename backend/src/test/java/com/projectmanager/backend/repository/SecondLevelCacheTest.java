@@ -0,0 +1,125 @@
+package com.projectmanager.backend.repository;
+
+import com.projectmanager.backend.dto.response.ProjectResponse;
+import com.projectmanager.backend.service.AuthService;
+import com.projectmanager.backend.service.ProjectService;
+import com.projectmanager.backend.service.TaskImportService;
+import com.projectmanager.backend.service.TaskService;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.UUID;
+
+import static com.projectmanager.backend.Fixtures.project;
+import static com.projectmanager.backend.Fixtures.task;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+
+@SpringBootTest
+class SecondLevelCacheTest {
+
+    @Autowired
+    private AuthService authService;
+    @Autowired
+    private ProjectService projectService;
+    @Autowired
+    private TaskService taskService;
+    @Autowired
+    private TaskImportService taskImportService;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+    private String email;
+    private UUID projectId;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        email = UUID.randomUUID() + "@test.com";
+        authService.registerUser(email, "password");
+        projectId = projectService.createProject(project("Cached project"), email).getId();
+    }
+
+    @Test
+    void repeatedDashboardReads_ShouldNotHitTheDatabase() {
+        projectService.getProjectById(projectId, email);
+        projectService.getUserProjects(email, null, 0, 6);
+
+        statistics.clear();
+        projectService.getProjectById(projectId, email);
+        projectService.getUserProjects(email, null, 0, 6);
+
+        assertEquals(0, statistics.getPrepareStatementCount());
+        // The single-page listing needs no count query
+        assertEquals(2, statistics.getQueryCacheHitCount());
+    }
+
+    @Test
+    void taskMutations_ShouldInvalidateCachedProjects() {
+        assertEquals(0, projectService.getProjectById(projectId, email).getTotalTasks());
+
+        UUID taskId = taskService.createTask(projectId, task("First"), email).getId();
+        assertEquals(1, projectService.getProjectById(projectId, email).getTotalTasks());
+        assertEquals(1, taskService.getTasksByProject(projectId, email).size());
+
+        taskService.markTaskAsCompleted(taskId, email);
+        ProjectResponse project = projectService.getProjectById(projectId, email);
+        assertEquals(1, project.getCompletedTasks());
+
+        taskService.deleteTask(taskId, email);
+        assertEquals(0, projectService.getProjectById(projectId, email).getTotalTasks());
+        assertEquals(0, taskService.getTasksByProject(projectId, email).size());
+    }
+
+    @Test
+    void taskWrites_ShouldLeaveOtherUsersCachedProjects() {
+        String otherEmail = UUID.randomUUID() + "@test.com";
+        authService.registerUser(otherEmail, "password");
+        UUID otherId = projectService.createProject(project("Other project"), otherEmail).getId();
+        projectService.getProjectById(otherId, otherEmail);
+        projectService.getUserProjects(otherEmail, null, 0, 6);
+        long otherVersion = projectService.getProjectVersion(otherId, otherEmail);
+        String listVersion = projectService.getProjectListVersion(email);
+
+        UUID taskId = taskService.createTask(projectId, task("First"), email).getId();
+        taskService.markTaskAsCompleted(taskId, email);
+
+        statistics.clear();
+        assertEquals("Other project", projectService.getProjectById(otherId, otherEmail).getTitle());
+        assertEquals(1, projectService.getUserProjects(otherEmail, null, 0, 6).getTotalElements());
+        assertEquals(otherVersion, projectService.getProjectVersion(otherId, otherEmail));
+        assertEquals(0, statistics.getPrepareStatementCount());
+        assertEquals(3, statistics.getQueryCacheHitCount());
+
+        // The writer's own project, list and ETags move with the counters
+        ProjectResponse written = projectService.getProjectById(projectId, email);
+        assertEquals(1, written.getTotalTasks());
+        assertEquals(1, written.getCompletedTasks());
+        assertEquals(1, projectService.getUserProjects(email, null, 0, 6).getContent().get(0).getCompletedTasks());
+        assertNotEquals(listVersion, projectService.getProjectListVersion(email));
+    }
+
+    @Test
+    void jdbcImport_ShouldEvictCachedTaskLists() {
+        assertEquals(0, taskService.getTasksByProject(projectId, email).size());
+        String listVersion = taskService.getTaskListVersion(projectId, email);
+
+        String body = "{\"title\":\"Imported\",\"description\":\"d\",\"dueDate\":\"" + LocalDate.now().plusDays(1)
+                + "\"}\n";
+        taskImportService.importTasks(projectId, TaskImportService.Format.NDJSON,
+                new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8)), email);
+
+        assertEquals(1, taskService.getTasksByProject(projectId, email).size());
+        assertEquals(1, projectService.getProjectById(projectId, email).getTotalTasks());
+        assertNotEquals(listVersion, taskService.getTaskListVersion(projectId, email));
+    }
+}
@@ -0,0 +1,99 @@
+package com.projectmanager.backend.security;
+
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.security.Keys;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AuthTokenFilterTest {
+
+    private static final String SECRET = "MySuperSecretKeyForTheProject12345!";
+    private static final UUID USER_ID = UUID.randomUUID();
+
+    private final List<String> lookups = new ArrayList<>();
+    private JwtUtils jwtUtils;
+
+    @BeforeEach
+    void setUp() {
+        jwtUtils = new JwtUtils();
+        ReflectionTestUtils.setField(jwtUtils, "secretString", SECRET);
+        ReflectionTestUtils.setField(jwtUtils, "jwtExpirationMs", 60000);
+        ReflectionTestUtils.setField(jwtUtils, "jwtCacheMaxSize", 100L);
+        jwtUtils.init();
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void tokenWithUserId_ShouldAuthenticateWithoutALookup() throws Exception {
+        UserDetailsService noLookups = email -> {
+            throw new AssertionError("Looked up " + email + " for a token that carries the user id");
+        };
+
+        Authentication authentication = authenticate(noLookups, jwtUtils.generateToken("test@test.com", USER_ID));
+
+        UserDetailsImpl principal = (UserDetailsImpl) authentication.getPrincipal();
+        assertEquals(USER_ID, principal.getId());
+        assertEquals("test@test.com", principal.getUsername());
+    }
+
+    @Test
+    void tokenWithoutUserId_ShouldFallBackToTheUserLookup() throws Exception {
+        UserDetailsService lookup = email -> {
+            lookups.add(email);
+            return new UserDetailsImpl(USER_ID, email, "hash");
+        };
+        String legacyToken = Jwts.builder()
+                .setSubject("legacy@test.com")
+                .setIssuedAt(new Date())
+                .setExpiration(new Date(System.currentTimeMillis() + 60000))
+                .signWith(Keys.hmacShaKeyFor(SECRET.getBytes()), SignatureAlgorithm.HS256)
+                .compact();
+
+        Authentication authentication = authenticate(lookup, legacyToken);
+
+        assertEquals(List.of("legacy@test.com"), lookups);
+        assertEquals(USER_ID, ((UserDetailsImpl) authentication.getPrincipal()).getId());
+    }
+
+    @Test
+    void invalidToken_ShouldLeaveTheRequestAnonymous() throws Exception {
+        UserDetailsService lookup = email -> {
+            lookups.add(email);
+            return new UserDetailsImpl(USER_ID, email, "hash");
+        };
+
+        assertNull(authenticate(lookup, "not-a-token"));
+        assertTrue(lookups.isEmpty());
+    }
+
+    private Authentication authenticate(UserDetailsService userDetailsService, String token) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/projects");
+        request.addHeader("Authorization", "Bearer " + token);
+        MockFilterChain chain = new MockFilterChain();
+
+        new AuthTokenFilter(jwtUtils, userDetailsService).doFilter(request, new MockHttpServletResponse(), chain);
+
+        assertNotNull(chain.getRequest(), "The request was not passed on");
+        return SecurityContextHolder.getContext().getAuthentication();
+    }
+}
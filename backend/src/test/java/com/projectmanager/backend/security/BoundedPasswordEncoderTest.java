@@ -0,0 +1,67 @@
+package com.projectmanager.backend.security;
+
+import com.projectmanager.backend.exception.ServiceUnavailableException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BoundedPasswordEncoderTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+    @Test
+    void encodeAndMatches_ShouldRoundTrip_AndRecordLatency() {
+        BoundedPasswordEncoder encoder = new BoundedPasswordEncoder(4, 1, 4, 5000, registry);
+
+        String hash = encoder.encode("password");
+
+        assertTrue(encoder.matches("password", hash));
+        assertFalse(encoder.matches("wrong", hash));
+        assertEquals(1, registry.get("auth.password.hash").tag("operation", "encode").timer().count());
+        assertEquals(2, registry.get("auth.password.hash").tag("operation", "matches").timer().count());
+        encoder.destroy();
+    }
+
+    @Test
+    void upgradeEncoding_ShouldFlagHashesBelowTheConfiguredStrength() {
+        BoundedPasswordEncoder encoder = new BoundedPasswordEncoder(6, 1, 4, 5000, registry);
+
+        assertTrue(encoder.upgradeEncoding(new BCryptPasswordEncoder(4).encode("password")));
+        assertFalse(encoder.upgradeEncoding(new BCryptPasswordEncoder(6).encode("password")));
+        encoder.destroy();
+    }
+
+    @Test
+    void encode_ShouldRejectFast_WhenTheQueueIsFull() throws Exception {
+        BoundedPasswordEncoder encoder = new BoundedPasswordEncoder(12, 1, 1, 30000, registry);
+        ExecutorService callers = Executors.newFixedThreadPool(6);
+        List<Future<String>> results = new ArrayList<>();
+        for (int i = 0; i < 6; i++) {
+            results.add(callers.submit(() -> encoder.encode("password")));
+        }
+
+        int rejected = 0;
+        for (Future<String> result : results) {
+            try {
+                result.get();
+            } catch (ExecutionException e) {
+                assertInstanceOf(ServiceUnavailableException.class, e.getCause());
+                rejected++;
+            }
+        }
+
+        assertTrue(rejected > 0);
+        assertEquals(rejected, registry.get("auth.password.rejected").counter().count());
+        callers.shutdownNow();
+        encoder.destroy();
+    }
+}
@@ -0,0 +1,55 @@
+package com.projectmanager.backend.security;
+
+import io.jsonwebtoken.Claims;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JwtUtilsTest {
+
+    private static final UUID USER_ID = UUID.randomUUID();
+
+    private JwtUtils jwtUtils;
+
+    @BeforeEach
+    void setUp() {
+        jwtUtils = new JwtUtils();
+        ReflectionTestUtils.setField(jwtUtils, "secretString", "MySuperSecretKeyForTheProject12345!");
+        ReflectionTestUtils.setField(jwtUtils, "jwtExpirationMs", 60000);
+        ReflectionTestUtils.setField(jwtUtils, "jwtCacheMaxSize", 100L);
+        jwtUtils.init();
+    }
+
+    @Test
+    void verifyToken_ShouldReturnClaims_WhenTokenIsValid() {
+        String token = jwtUtils.generateToken("test@test.com", USER_ID);
+
+        Claims claims = jwtUtils.verifyToken(token);
+
+        assertNotNull(claims);
+        assertEquals("test@test.com", claims.getSubject());
+        assertEquals(USER_ID.toString(), claims.get(JwtUtils.USER_ID_CLAIM, String.class));
+        assertSame(claims, jwtUtils.verifyToken(token));
+    }
+
+    @Test
+    void verifyToken_ShouldReturnNull_WhenTokenIsTampered() {
+        String token = jwtUtils.generateToken("test@test.com", USER_ID);
+        String tampered = token.substring(0, token.length() - 2) + (token.endsWith("A") ? "BB" : "AA");
+
+        assertNull(jwtUtils.verifyToken(tampered));
+        assertFalse(jwtUtils.validateToken("not-a-token"));
+    }
+
+    @Test
+    void verifyToken_ShouldReturnNull_WhenTokenIsExpired() {
+        ReflectionTestUtils.setField(jwtUtils, "jwtExpirationMs", -1000);
+        String token = jwtUtils.generateToken("test@test.com", USER_ID);
+
+        assertNull(jwtUtils.verifyToken(token));
+    }
+}
@@ -0,0 +1,64 @@
+package com.projectmanager.backend.service;
+
+import com.projectmanager.backend.dto.request.LoginRequest;
+import com.projectmanager.backend.model.User;
+import com.projectmanager.backend.repository.UserRepository;
+import com.projectmanager.backend.security.UserDetailsImpl;
+import com.projectmanager.backend.security.UserDetailsServiceImpl;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+class AuthServiceTest {
+
+    @Autowired
+    private AuthService authService;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private UserDetailsServiceImpl userDetailsService;
+
+    @Test
+    void login_ShouldRehashPasswordsStoredBelowTheConfiguredStrength() {
+        String email = UUID.randomUUID() + "@test.com";
+        userRepository.save(User.builder()
+                .email(email)
+                .password(new BCryptPasswordEncoder(4).encode("password"))
+                .build());
+
+        authService.login(login(email, "password"));
+
+        String upgraded = userRepository.findByEmail(email).orElseThrow().getPassword();
+        assertTrue(upgraded.startsWith("$2a$10$"), upgraded);
+        // The cached principal was evicted, so the next login verifies against the new hash
+        assertEquals(upgraded, userDetailsService.loadUserByUsername(email).getPassword());
+        assertNotNull(authService.login(login(email, "password")).getAccessToken());
+    }
+
+    @Test
+    void registerUser_ShouldEvictTheCachedUser() {
+        String email = UUID.randomUUID() + "@test.com";
+        User stale = userRepository.save(User.builder().email(email).password("stale").build());
+        assertEquals(stale.getId(), ((UserDetailsImpl) userDetailsService.loadUserByUsername(email)).getId());
+        userRepository.delete(stale);
+
+        authService.registerUser(email, "password");
+
+        UserDetailsImpl cached = (UserDetailsImpl) userDetailsService.loadUserByUsername(email);
+        assertEquals(userRepository.findByEmail(email).orElseThrow().getId(), cached.getId());
+        assertNotEquals(stale.getId(), cached.getId());
+    }
+
+    private LoginRequest login(String email, String password) {
+        LoginRequest request = new LoginRequest();
+        request.setEmail(email);
+        request.setPassword(password);
+        return request;
+    }
+}
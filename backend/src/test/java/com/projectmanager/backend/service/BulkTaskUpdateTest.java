@@ -0,0 +1,127 @@
+package com.projectmanager.backend.service;
+
+import com.projectmanager.backend.dto.request.BulkTaskUpdateRequest;
+import com.projectmanager.backend.dto.request.TaskRequest;
+import com.projectmanager.backend.dto.response.ProjectResponse;
+import com.projectmanager.backend.dto.response.TaskResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+import static com.projectmanager.backend.Fixtures.project;
+import static com.projectmanager.backend.Fixtures.task;
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+class BulkTaskUpdateTest {
+
+    @Autowired
+    private ProjectService projectService;
+    @Autowired
+    private TaskService taskService;
+    @Autowired
+    private AuthService authService;
+
+    private String email;
+    private UUID projectId;
+    private UUID late;
+    private UUID done;
+    private UUID later;
+
+    @BeforeEach
+    void setUp() {
+        email = UUID.randomUUID() + "@test.com";
+        authService.registerUser(email, "password");
+        projectId = projectService.createProject(project("Bulk"), email).getId();
+
+        late = taskService.createTask(projectId, task("Late"), email).getId();
+        done = taskService.createTask(projectId, task("Done"), email).getId();
+        taskService.markTaskAsCompleted(done, email);
+        TaskRequest request = task("Later");
+        request.setDueDate(LocalDate.now().plusDays(10));
+        later = taskService.createTask(projectId, request, email).getId();
+    }
+
+    @Test
+    void bulkComplete_ShouldRecomputeTheProjectCounters() {
+        assertEquals(1, projectService.getProjectById(projectId, email).getCompletedTasks());
+
+        assertEquals(2, taskService.bulkUpdateTasks(projectId, byIds(late, later), email).getUpdated());
+        ProjectResponse project = projectService.getProjectById(projectId, email);
+        assertEquals(3, project.getTotalTasks());
+        assertEquals(3, project.getCompletedTasks());
+
+        BulkTaskUpdateRequest reopen = byFilter(true, null);
+        reopen.setIsCompleted(false);
+        assertEquals(3, taskService.bulkUpdateTasks(projectId, reopen, email).getUpdated());
+        assertEquals(0, projectService.getProjectById(projectId, email).getCompletedTasks());
+    }
+
+    @Test
+    void filter_ShouldMatchOnCompletion_AndDueDatesStrictlyBeforeDueBefore() {
+        // Done is completed and Later is due on dueBefore itself, so only Late matches
+        BulkTaskUpdateRequest request = byFilter(false, LocalDate.now().plusDays(10));
+        request.setIsCompleted(null);
+        request.setDueDate(LocalDate.now().plusDays(20));
+
+        assertEquals(1, taskService.bulkUpdateTasks(projectId, request, email).getUpdated());
+        Map<UUID, TaskResponse> tasks = tasks();
+        assertEquals(LocalDate.now().plusDays(20), tasks.get(late).getDueDate());
+        assertEquals(LocalDate.now().plusDays(1), tasks.get(done).getDueDate());
+        assertEquals(LocalDate.now().plusDays(10), tasks.get(later).getDueDate());
+        assertEquals(1, projectService.getProjectById(projectId, email).getCompletedTasks());
+    }
+
+    @Test
+    void emptyFilter_ShouldUpdateEveryTaskInTheProject() {
+        assertEquals(3, taskService.bulkUpdateTasks(projectId, byFilter(null, null), email).getUpdated());
+        assertTrue(tasks().values().stream().allMatch(TaskResponse::isCompleted));
+        assertEquals(3, projectService.getProjectById(projectId, email).getCompletedTasks());
+    }
+
+    @Test
+    void foreignProject_ShouldUpdateNothing() {
+        String other = UUID.randomUUID() + "@test.com";
+        authService.registerUser(other, "password");
+        UUID ownProjectId = projectService.createProject(project("Own"), other).getId();
+
+        // Someone else's project, by id and by filter, and someone else's tasks under one's own project
+        assertEquals(0, taskService.bulkUpdateTasks(projectId, byIds(late, later), other).getUpdated());
+        assertEquals(0, taskService.bulkUpdateTasks(projectId, byFilter(null, null), other).getUpdated());
+        assertEquals(0, taskService.bulkUpdateTasks(ownProjectId, byIds(late, later), other).getUpdated());
+
+        assertEquals(List.of(done), tasks().values().stream().filter(TaskResponse::isCompleted)
+                .map(TaskResponse::getId).toList());
+        assertEquals(1, projectService.getProjectById(projectId, email).getCompletedTasks());
+        assertEquals(0, projectService.getProjectById(ownProjectId, other).getTotalTasks());
+    }
+
+    private static BulkTaskUpdateRequest byIds(UUID... taskIds) {
+        BulkTaskUpdateRequest request = new BulkTaskUpdateRequest();
+        request.setTaskIds(List.of(taskIds));
+        request.setIsCompleted(true);
+        return request;
+    }
+
+    private static BulkTaskUpdateRequest byFilter(Boolean isCompleted, LocalDate dueBefore) {
+        BulkTaskUpdateRequest.Filter filter = new BulkTaskUpdateRequest.Filter();
+        filter.setIsCompleted(isCompleted);
+        filter.setDueBefore(dueBefore);
+        BulkTaskUpdateRequest request = new BulkTaskUpdateRequest();
+        request.setFilter(filter);
+        request.setIsCompleted(true);
+        return request;
+    }
+
+    private Map<UUID, TaskResponse> tasks() {
+        return taskService.getTasksByProject(projectId, email).stream()
+                .collect(Collectors.toMap(TaskResponse::getId, task -> task));
+    }
+}
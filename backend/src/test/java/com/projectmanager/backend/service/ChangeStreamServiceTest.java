@@ -0,0 +1,147 @@
+package com.projectmanager.backend.service;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ChangeStreamServiceTest {
+
+    private static final String EMAIL = "test@test.com";
+
+    private final List<String> sent = new CopyOnWriteArrayList<>();
+    private final CountDownLatch firstSendStarted = new CountDownLatch(1);
+    private final CountDownLatch releaseFirstSend = new CountDownLatch(1);
+    private final CountDownLatch interrupted = new CountDownLatch(1);
+    private ChangeStreamService changeStreamService;
+
+    @BeforeEach
+    void setUp() {
+        // The first send blocks until released, the way a write waits on a client that is not reading
+        changeStreamService = new ChangeStreamService() {
+            @Override
+            SseEmitter createEmitter() {
+                return new SseEmitter() {
+                    @Override
+                    public void send(SseEventBuilder event) throws IOException {
+                        if (firstSendStarted.getCount() > 0) {
+                            firstSendStarted.countDown();
+                            try {
+                                releaseFirstSend.await();
+                            } catch (InterruptedException e) {
+                                interrupted.countDown();
+                                throw new IOException("Write interrupted", e);
+                            }
+                        }
+                        sent.add(describe(event));
+                    }
+                };
+            }
+        };
+        ReflectionTestUtils.setField(changeStreamService, "bufferSize", 4);
+        ReflectionTestUtils.setField(changeStreamService, "pushThreads", 1);
+        changeStreamService.init();
+    }
+
+    @AfterEach
+    void tearDown() {
+        releaseFirstSend.countDown();
+        changeStreamService.shutdown();
+    }
+
+    @Test
+    void pendingEvents_ShouldCoalescePerEntity() throws Exception {
+        UUID first = UUID.randomUUID();
+        UUID a = UUID.randomUUID();
+        UUID b = UUID.randomUUID();
+        changeStreamService.subscribe(EMAIL);
+        changeStreamService.onEntityChanged(task(first, EntityChangedEvent.UPSERT));
+        assertTrue(firstSendStarted.await(5, TimeUnit.SECONDS));
+
+        changeStreamService.onEntityChanged(task(a, EntityChangedEvent.UPSERT));
+        changeStreamService.onEntityChanged(task(b, EntityChangedEvent.UPSERT));
+        changeStreamService.onEntityChanged(task(a, EntityChangedEvent.DELETE));
+        releaseFirstSend.countDown();
+
+        // The later event replaces the earlier one for the same task and takes its place in the order
+        assertEquals(List.of("change " + first + " upsert", "change " + b + " upsert", "change " + a + " delete"),
+                awaitSent(3));
+    }
+
+    @Test
+    void bufferOverflow_ShouldReplaceThePendingEventsWithOneResync() throws Exception {
+        UUID first = UUID.randomUUID();
+        changeStreamService.subscribe(EMAIL);
+        changeStreamService.onEntityChanged(task(first, EntityChangedEvent.UPSERT));
+        assertTrue(firstSendStarted.await(5, TimeUnit.SECONDS));
+
+        for (int i = 0; i < 6; i++) {
+            changeStreamService.onEntityChanged(task(UUID.randomUUID(), EntityChangedEvent.UPSERT));
+        }
+        releaseFirstSend.countDown();
+
+        assertEquals(List.of("change " + first + " upsert", "resync"), awaitSent(2));
+        Thread.sleep(100);
+        assertEquals(2, sent.size(), "Events after the overflow should be dropped until the resync is sent");
+    }
+
+    @Test
+    void stalledWrite_ShouldCloseTheStream_AndFreeThePushThread() throws Exception {
+        changeStreamService.subscribe(EMAIL);
+        changeStreamService.onEntityChanged(task(UUID.randomUUID(), EntityChangedEvent.UPSERT));
+        assertTrue(firstSendStarted.await(5, TimeUnit.SECONDS));
+
+        ReflectionTestUtils.setField(changeStreamService, "writeTimeoutMs", 60_000L);
+        changeStreamService.closeStalledStreams();
+        assertEquals(1, changeStreamService.getSubscriberCount());
+
+        ReflectionTestUtils.setField(changeStreamService, "writeTimeoutMs", 0L);
+        changeStreamService.closeStalledStreams();
+        assertEquals(0, changeStreamService.getSubscriberCount());
+        assertTrue(interrupted.await(5, TimeUnit.SECONDS), "The blocked write was not interrupted");
+
+        // The single push thread is free again for the next subscriber
+        changeStreamService.subscribe(EMAIL);
+        UUID next = UUID.randomUUID();
+        changeStreamService.onEntityChanged(task(next, EntityChangedEvent.UPSERT));
+        assertEquals(List.of("change " + next + " upsert"), awaitSent(1));
+    }
+
+    private List<String> awaitSent(int count) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (sent.size() < count && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        return List.copyOf(sent);
+    }
+
+    private static EntityChangedEvent task(UUID taskId, String op) {
+        return EntityChangedEvent.task(EMAIL, taskId, UUID.randomUUID(), op);
+    }
+
+    // "change <id> <op>" for a change event, the event name otherwise
+    private static String describe(SseEmitter.SseEventBuilder event) {
+        String text = event.build().stream()
+                .map(ResponseBodyEmitter.DataWithMediaType::getData)
+                .map(data -> data instanceof Map<?, ?> payload ? payload.get("id") + " " + payload.get("op") : data)
+                .map(String::valueOf)
+                .collect(Collectors.joining());
+        if (text.contains("event:" + ChangeStreamService.RESYNC_EVENT)) {
+            return ChangeStreamService.RESYNC_EVENT;
+        }
+        return ChangeStreamService.CHANGE_EVENT + " " + text.replaceAll("(?s).*data:", "").trim();
+    }
+}
@@ -0,0 +1,118 @@
+package com.projectmanager.backend.service;
+
+import com.projectmanager.backend.dto.request.LoginRequest;
+import com.projectmanager.backend.repository.JdbcUuid;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+class DatasetGeneratorTest {
+
+    @Autowired
+    private DatasetGenerator datasetGenerator;
+    @Autowired
+    private ProjectService projectService;
+    @Autowired
+    private AuthService authService;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void generate_ShouldLoadConsistentRows_UsableThroughTheServices() {
+        String prefix = "gen-" + UUID.randomUUID().toString().substring(0, 8) + "-";
+        DatasetGenerator.Result result = datasetGenerator.generate(spec(prefix, 7));
+
+        assertEquals(6, result.users());
+        assertEquals(result.users(), count("SELECT COUNT(*) FROM users WHERE email LIKE ?", prefix + "%"));
+        assertEquals(result.projects(), count("SELECT COUNT(*) FROM projects p JOIN users u ON u.id = p.user_id "
+                + "WHERE u.email LIKE ?", prefix + "%"));
+        assertEquals(result.tasks(), count("SELECT COUNT(*) FROM tasks t JOIN projects p ON p.id = t.project_id "
+                + "JOIN users u ON u.id = p.user_id WHERE u.email LIKE ?", prefix + "%"));
+
+        // Denormalized counters match the generated tasks
+        List<Map<String, Object>> mismatched = jdbcTemplate.queryForList("SELECT p.id FROM projects p "
+                + "JOIN users u ON u.id = p.user_id WHERE u.email LIKE ? AND (p.total_tasks <> "
+                + "(SELECT COUNT(*) FROM tasks t WHERE t.project_id = p.id) OR p.completed_tasks <> "
+                + "(SELECT COUNT(*) FROM tasks t WHERE t.project_id = p.id AND t.completed = TRUE))", prefix + "%");
+        assertTrue(mismatched.isEmpty());
+
+        String email = prefix + "0@example.com";
+        long owned = count("SELECT COUNT(*) FROM projects p JOIN users u ON u.id = p.user_id WHERE u.email = ?", email);
+        assertEquals(owned, projectService.getUserProjects(email, "", 0, 10).getTotalElements());
+        LoginRequest login = new LoginRequest();
+        login.setEmail(email);
+        login.setPassword("secret");
+        assertNotNull(authService.login(login).getAccessToken());
+    }
+
+    @Test
+    void generate_ShouldUseTheRequestedUuidVersion() {
+        String prefix = "gen4-" + UUID.randomUUID().toString().substring(0, 8) + "-";
+        datasetGenerator.generate(spec(prefix, 4));
+
+        List<byte[]> ids = jdbcTemplate.queryForList("SELECT t.id FROM tasks t JOIN projects p ON p.id = t.project_id "
+                + "JOIN users u ON u.id = p.user_id WHERE u.email LIKE ?", byte[].class, prefix + "%");
+        assertFalse(ids.isEmpty());
+        ids.forEach(id -> assertEquals(4, JdbcUuid.fromBytes(id).version()));
+    }
+
+    @Test
+    void generate_ShouldTakeV7IdsFromTheInsertionClock() {
+        String prefix = "gen7-" + UUID.randomUUID().toString().substring(0, 8) + "-";
+        long start = System.currentTimeMillis();
+        datasetGenerator.generate(spec(prefix, 7));
+        long end = System.currentTimeMillis();
+
+        // Generated created_at values span two years; the ids must not follow them
+        List<byte[]> ids = jdbcTemplate.queryForList("SELECT t.id FROM tasks t JOIN projects p ON p.id = t.project_id "
+                + "JOIN users u ON u.id = p.user_id WHERE u.email LIKE ?", byte[].class, prefix + "%");
+        assertFalse(ids.isEmpty());
+        ids.forEach(id -> {
+            long millis = JdbcUuid.fromBytes(id).getMostSignificantBits() >>> 16;
+            assertTrue(millis >= start && millis <= end);
+        });
+    }
+
+    @Test
+    void compareUuidVersions_ShouldLoadTheSameDatasetWithBothKeyLayouts() {
+        String prefix = "cmp-" + UUID.randomUUID().toString().substring(0, 8) + "-";
+        DatasetGenerator.Comparison comparison = datasetGenerator.compareUuidVersions(spec(prefix, 7));
+
+        assertEquals(comparison.v4().tasks(), comparison.v7().tasks());
+        assertTrue(comparison.v4().rowsPerSecond() > 0);
+        assertTrue(comparison.v7().rowsPerSecond() > 0);
+        assertEquals(4, JdbcUuid.fromBytes(firstUserId("v4-" + prefix)).version());
+        assertEquals(7, JdbcUuid.fromBytes(firstUserId("v7-" + prefix)).version());
+    }
+
+    private byte[] firstUserId(String prefix) {
+        return jdbcTemplate.queryForObject("SELECT id FROM users WHERE email = ?", byte[].class,
+                prefix + "0@example.com");
+    }
+
+    private DatasetGenerator.Spec spec(String prefix, int uuidVersion) {
+        return DatasetGenerator.Spec.builder()
+                .users(6)
+                .avgProjectsPerUser(4)
+                .avgTasksPerProject(20)
+                .seed(prefix.hashCode())
+                .uuidVersion(uuidVersion)
+                .emailPrefix(prefix)
+                .password("secret")
+                .threads(2)
+                .batchSize(50)
+                .build();
+    }
+
+    private long count(String sql, Object... args) {
+        return jdbcTemplate.queryForObject(sql, Long.class, args);
+    }
+}
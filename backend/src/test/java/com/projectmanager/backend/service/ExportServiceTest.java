@@ -0,0 +1,69 @@
+package com.projectmanager.backend.service;
+
+import com.projectmanager.backend.exception.ServiceUnavailableException;
+import com.projectmanager.backend.repository.ExportRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.context.request.async.WebAsyncUtils;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.ByteArrayOutputStream;
+import java.io.OutputStream;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class ExportServiceTest {
+
+    private final ExportRepository exportRepository = mock(ExportRepository.class);
+    private final ExportService exportService = new ExportService(exportRepository, new JsonMapper(), 1);
+
+    @Test
+    void export_ShouldHoldItsSlotUntilTheStreamEnds() throws Exception {
+        StreamingResponseBody body = exportService.csvBody(UUID.randomUUID());
+
+        // Reserved when the response is set up, before the body runs on the async thread
+        assertEquals(0, exportService.getAvailableSlots());
+        assertThrows(ServiceUnavailableException.class, () -> exportService.ndjsonBody(UUID.randomUUID()));
+
+        body.writeTo(new ByteArrayOutputStream());
+        assertEquals(1, exportService.getAvailableSlots());
+    }
+
+    @Test
+    void failedExport_ShouldGiveItsSlotBack() {
+        doThrow(new IllegalStateException("Connection lost")).when(exportRepository).forEachRow(any(), any());
+        StreamingResponseBody body = exportService.ndjsonBody(UUID.randomUUID());
+
+        assertThrows(IllegalStateException.class, () -> body.writeTo(OutputStream.nullOutputStream()));
+        assertEquals(1, exportService.getAvailableSlots());
+    }
+
+    @Test
+    void exportThatNeverStreams_ShouldGiveItsSlotBackWhenTheAsyncRequestEnds() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+        StreamingResponseBody body;
+        try {
+            body = exportService.csvBody(UUID.randomUUID());
+        } finally {
+            RequestContextHolder.resetRequestAttributes();
+        }
+        assertEquals(0, exportService.getAvailableSlots());
+
+        // A timeout or error before the body ran still completes the async request
+        WebAsyncUtils.getAsyncManager(request).getCallableInterceptor(ExportService.SLOT_INTERCEPTOR_KEY)
+                .afterCompletion(new ServletWebRequest(request), () -> null);
+        assertEquals(1, exportService.getAvailableSlots());
+
+        // Running late after all must not hand out a second permit
+        body.writeTo(OutputStream.nullOutputStream());
+        assertEquals(1, exportService.getAvailableSlots());
+    }
+}
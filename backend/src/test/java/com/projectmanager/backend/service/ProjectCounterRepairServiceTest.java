@@ -0,0 +1,93 @@
+package com.projectmanager.backend.service;
+
+import com.projectmanager.backend.repository.JdbcUuid;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.Map;
+import java.util.UUID;
+
+import static com.projectmanager.backend.Fixtures.project;
+import static com.projectmanager.backend.Fixtures.task;
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+class ProjectCounterRepairServiceTest {
+
+    @Autowired
+    private ProjectCounterRepairService counterRepairService;
+    @Autowired
+    private AuthService authService;
+    @Autowired
+    private ProjectService projectService;
+    @Autowired
+    private TaskService taskService;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private String email;
+    private UUID driftedId;
+    private UUID healthyId;
+
+    @BeforeEach
+    void setUp() {
+        email = UUID.randomUUID() + "@test.com";
+        authService.registerUser(email, "password");
+        driftedId = projectService.createProject(project("Drifted"), email).getId();
+        for (int i = 0; i < 3; i++) {
+            UUID taskId = taskService.createTask(driftedId, task("Task " + i), email).getId();
+            if (i == 0) {
+                taskService.markTaskAsCompleted(taskId, email);
+            }
+        }
+        healthyId = projectService.createProject(project("Healthy"), email).getId();
+        taskService.createTask(healthyId, task("Task"), email);
+    }
+
+    @Test
+    void repairAll_ShouldRecomputeDriftedCounters_AndCountThem() {
+        // Written behind Hibernate's back, the way a lost update or a manual fix would leave them
+        jdbcTemplate.update("UPDATE projects SET total_tasks = 7, completed_tasks = 5 WHERE id = ?",
+                (Object) JdbcUuid.toBytes(driftedId));
+        Object healthyVersion = counters(healthyId).get("version");
+        double repairedBefore = repaired();
+
+        counterRepairService.repairAll();
+
+        Map<String, Object> drifted = counters(driftedId);
+        assertEquals(3, ((Number) drifted.get("total_tasks")).intValue());
+        assertEquals(1, ((Number) drifted.get("completed_tasks")).intValue());
+        assertTrue(repaired() >= repairedBefore + 1, "The drifted project was not counted");
+        // A project whose counters were right keeps its version, and with it its ETag
+        assertEquals(healthyVersion, counters(healthyId).get("version"));
+        // The repair evicts the cached project, so no cached copy keeps serving the drifted counters
+        assertEquals(3, projectService.getProjectById(driftedId, email).getTotalTasks());
+    }
+
+    @Test
+    void repairAll_ShouldNotCount_WhenNothingDrifted() {
+        counterRepairService.repairAll();
+        double repairedBefore = repaired();
+
+        counterRepairService.repairAll();
+
+        assertEquals(repairedBefore, repaired());
+    }
+
+    private Map<String, Object> counters(UUID projectId) {
+        return jdbcTemplate.queryForMap("SELECT total_tasks, completed_tasks, version FROM projects WHERE id = ?",
+                (Object) JdbcUuid.toBytes(projectId));
+    }
+
+    private double repaired() {
+        Counter counter = meterRegistry.find("app.counters.repaired").counter();
+        return counter == null ? 0 : counter.count();
+    }
+}
@@ -0,0 +1,124 @@
+package com.projectmanager.backend.service;
+
+import com.projectmanager.backend.dto.response.SearchResultResponse;
+import com.projectmanager.backend.exception.ServiceUnavailableException;
+import com.projectmanager.backend.model.User;
+import com.projectmanager.backend.repository.JdbcUuid;
+import com.projectmanager.backend.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.UUID;
+
+import static com.projectmanager.backend.Fixtures.project;
+import static com.projectmanager.backend.Fixtures.task;
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+class SearchServiceTest {
+
+    @Autowired
+    private SearchService searchService;
+    @Autowired
+    private ProjectService projectService;
+    @Autowired
+    private TaskService taskService;
+    @Autowired
+    private AuthService authService;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private String email;
+    private UUID userId;
+
+    @BeforeEach
+    void setUp() {
+        email = UUID.randomUUID() + "@test.com";
+        authService.registerUser(email, "password");
+        User user = userRepository.findByEmail(email).orElseThrow();
+        userId = user.getId();
+    }
+
+    @Test
+    void terms_ShouldFoldCaseAndAccents_AndSplitWordsIntoTrigrams() {
+        assertEquals(List.of("caf", "afe", "ui"), List.copyOf(SearchService.terms("Café, UI!")));
+        assertTrue(SearchService.terms("  ").isEmpty());
+    }
+
+    @Test
+    void search_ShouldRankTitleMatchesFirst_AndFollowUpdatesAndDeletes() {
+        UUID projectId = projectService.createProject(project("Website relaunch", "Marketing"), email).getId();
+        UUID inTitle = taskService.createTask(projectId, task("Deploy staging", "Check logs"), email).getId();
+        UUID inDescription = taskService.createTask(projectId, task("Review", "Deploy notes"), email).getId();
+
+        List<SearchResultResponse> results = searchService.search(userId, "deploy", 0, 10);
+        assertEquals(List.of(inTitle, inDescription), results.stream().map(SearchResultResponse::getId).toList());
+        assertEquals("task", results.get(0).getType());
+        assertEquals("Deploy staging", results.get(0).getTitle());
+
+        // Tolerates a typo through partial trigram overlap
+        assertEquals(projectId, searchService.search(userId, "relaunc", 0, 10).get(0).getId());
+
+        taskService.updateTask(inTitle, task("Rollback staging", "Check logs"), email);
+        assertEquals(List.of(inDescription),
+                searchService.search(userId, "deploy", 0, 10).stream().map(SearchResultResponse::getId).toList());
+
+        taskService.deleteTask(inDescription, email);
+        assertTrue(searchService.search(userId, "deploy", 0, 10).isEmpty());
+
+        projectService.deleteProject(projectId, email);
+        assertEquals(0, jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM search_terms WHERE owner_id = ?", Integer.class, (Object) JdbcUuid.toBytes(userId)));
+    }
+
+    @Test
+    void search_ShouldBeScopedToTheOwner() {
+        projectService.createProject(project("Quarterly budget", "Finance"), email);
+
+        String otherEmail = UUID.randomUUID() + "@test.com";
+        authService.registerUser(otherEmail, "password");
+        UUID otherId = userRepository.findByEmail(otherEmail).orElseThrow().getId();
+
+        assertEquals(1, searchService.search(userId, "budget", 0, 10).size());
+        assertTrue(searchService.search(otherId, "budget", 0, 10).isEmpty());
+    }
+
+    @Test
+    void reindexAll_ShouldRestoreTheIndexFromTheTables() {
+        UUID projectId = projectService.createProject(project("Inventory audit", "Warehouse"), email).getId();
+        UUID taskId = taskService.createTask(projectId, task("Count pallets", "Aisle seven"), email).getId();
+        jdbcTemplate.update("DELETE FROM search_terms WHERE project_id = ?", (Object) JdbcUuid.toBytes(projectId));
+        assertTrue(searchService.search(userId, "audit", 0, 10).isEmpty());
+
+        searchService.reindexAll();
+
+        assertEquals(projectId, searchService.search(userId, "audit", 0, 10).get(0).getId());
+        assertEquals(taskId, searchService.search(userId, "pallets", 0, 10).get(0).getId());
+    }
+
+    @Test
+    void startup_ShouldRebuildAStaleIndex_AndScanUntilItIsReady() {
+        UUID projectId = projectService.createProject(project("Legacy rollout", "Imported"), email).getId();
+        // As after the upgrade that introduced the index: rows exist, their terms do not
+        jdbcTemplate.update("DELETE FROM search_terms WHERE project_id = ?", (Object) JdbcUuid.toBytes(projectId));
+        searchService.markIndexStale();
+        ReflectionTestUtils.setField(searchService, "indexReady", false);
+
+        assertEquals(1, projectService.getUserProjects(email, "legacy", 0, 10).getTotalElements());
+        assertThrows(ServiceUnavailableException.class, () -> searchService.search(userId, "legacy", 0, 10));
+
+        searchService.reindexOnStartup();
+
+        assertEquals(SearchService.INDEX_VERSION, jdbcTemplate.queryForObject(
+                "SELECT index_version FROM search_index_state WHERE id = 1", Integer.class));
+        assertEquals(projectId, searchService.search(userId, "legacy", 0, 10).get(0).getId());
+        assertEquals(1, projectService.getUserProjects(email, "legacy", 0, 10).getTotalElements());
+    }
+}
@@ -0,0 +1,183 @@
+package com.projectmanager.backend.service;
+
+import com.projectmanager.backend.dto.request.BulkTaskUpdateRequest;
+import com.projectmanager.backend.dto.response.ProjectResponse;
+import com.projectmanager.backend.dto.response.SyncResponse;
+import com.projectmanager.backend.dto.response.TaskResponse;
+import com.projectmanager.backend.exception.CursorExpiredException;
+import com.projectmanager.backend.repository.JdbcUuid;
+import com.projectmanager.backend.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static com.projectmanager.backend.Fixtures.project;
+import static com.projectmanager.backend.Fixtures.task;
+import static org.junit.jupiter.api.Assertions.*;
+
+// Entries settle at once, so the cursor moves past everything a test just wrote
+@SpringBootTest(properties = {"app.syncSettleMs=0", "app.changeLogPruneBatchSize=2"})
+class SyncServiceTest {
+
+    @Autowired
+    private SyncService syncService;
+    @Autowired
+    private ProjectService projectService;
+    @Autowired
+    private TaskService taskService;
+    @Autowired
+    private AuthService authService;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private String email;
+    private UUID userId;
+
+    @BeforeEach
+    void setUp() {
+        email = UUID.randomUUID() + "@test.com";
+        authService.registerUser(email, "password");
+        userId = userRepository.findByEmail(email).orElseThrow().getId();
+    }
+
+    @Test
+    void sync_ShouldReturnOnlyChangesSinceTheCursor_WithTombstones() {
+        String cursor = syncService.sync(userId, null, 100).getCursor();
+
+        UUID projectId = projectService.createProject(project("Synced"), email).getId();
+        UUID kept = taskService.createTask(projectId, task("Kept"), email).getId();
+        UUID removed = taskService.createTask(projectId, task("Removed"), email).getId();
+        taskService.deleteTask(removed, email);
+
+        SyncResponse delta = syncService.sync(userId, cursor, 100);
+        assertEquals(List.of(projectId), delta.getProjects().stream().map(ProjectResponse::getId).toList());
+        assertEquals(1, delta.getProjects().get(0).getTotalTasks());
+        assertEquals(List.of(kept), delta.getTasks().stream().map(TaskResponse::getId).toList());
+        assertEquals(List.of(removed), delta.getDeleted().stream().map(SyncResponse.Tombstone::getId).toList());
+        assertFalse(delta.isHasMore());
+
+        // Nothing changed since
+        SyncResponse empty = syncService.sync(userId, delta.getCursor(), 100);
+        assertTrue(empty.getProjects().isEmpty() && empty.getTasks().isEmpty() && empty.getDeleted().isEmpty());
+        assertEquals(delta.getCursor(), empty.getCursor());
+
+        projectService.deleteProject(projectId, email);
+        SyncResponse deleted = syncService.sync(userId, delta.getCursor(), 100);
+        assertEquals("project", deleted.getDeleted().get(0).getType());
+        assertTrue(deleted.getProjects().isEmpty());
+    }
+
+    @Test
+    void sync_ShouldPageThroughLargeDeltas() {
+        String cursor = syncService.sync(userId, null, 100).getCursor();
+        UUID projectId = projectService.createProject(project("Paged"), email).getId();
+        for (int i = 0; i < 3; i++) {
+            taskService.createTask(projectId, task("Task " + i), email);
+        }
+
+        int tasks = 0;
+        SyncResponse page;
+        do {
+            page = syncService.sync(userId, cursor, 2);
+            tasks += page.getTasks().size();
+            cursor = page.getCursor();
+        } while (page.isHasMore());
+        assertEquals(3, tasks);
+    }
+
+    @Test
+    void sync_ShouldLogTasksTouchedBySetBasedUpdates() {
+        UUID projectId = projectService.createProject(project("Bulk"), email).getId();
+        UUID first = taskService.createTask(projectId, task("First"), email).getId();
+        UUID second = taskService.createTask(projectId, task("Second"), email).getId();
+        String cursor = syncService.sync(userId, null, 100).getCursor();
+
+        BulkTaskUpdateRequest request = new BulkTaskUpdateRequest();
+        request.setFilter(new BulkTaskUpdateRequest.Filter());
+        request.setIsCompleted(true);
+        taskService.bulkUpdateTasks(projectId, request, email);
+
+        SyncResponse delta = syncService.sync(userId, cursor, 100);
+        assertEquals(List.of(first, second).stream().sorted().toList(),
+                delta.getTasks().stream().map(TaskResponse::getId).sorted().toList());
+        assertTrue(delta.getTasks().stream().allMatch(TaskResponse::isCompleted));
+        assertEquals(2, delta.getProjects().get(0).getCompletedTasks());
+    }
+
+    @Test
+    void prune_ShouldDeleteExpiredEntriesInBatches_AndExpireTheirCursors() {
+        String cursor = syncService.sync(userId, null, 100).getCursor();
+        UUID projectId = projectService.createProject(project("Expired"), email).getId();
+        for (int i = 0; i < 3; i++) {
+            taskService.createTask(projectId, task("Task " + i), email);
+        }
+        jdbcTemplate.update("UPDATE change_log SET changed_at = ? WHERE owner_id = ?",
+                Timestamp.valueOf(LocalDateTime.now().minusDays(60)), (Object) JdbcUuid.toBytes(userId));
+        try {
+            syncService.prune();
+
+            assertEquals(0, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM change_log WHERE owner_id = ?",
+                    Integer.class, (Object) JdbcUuid.toBytes(userId)));
+            assertThrows(CursorExpiredException.class, () -> syncService.sync(userId, cursor, 100));
+        } finally {
+            jdbcTemplate.update("UPDATE change_log_pruned SET pruned_through = 0 WHERE id = 1");
+        }
+    }
+
+    @Nested
+    @TestPropertySource(properties = "app.syncSettleMs=60000")
+    class WhileEntriesSettle {
+
+        // From this class's own context, the one with the long settle time
+        @Autowired
+        private SyncService settlingSyncService;
+
+        @Test
+        void sync_ShouldNotMoveTheCursorPastUnsettledEntries() {
+            String cursor = settlingSyncService.sync(userId, null, 100).getCursor();
+            projectService.createProject(project("Fresh"), email);
+
+            SyncResponse delta = settlingSyncService.sync(userId, cursor, 100);
+            assertEquals(1, delta.getProjects().size());
+            assertEquals(cursor, delta.getCursor());
+        }
+
+        @Test
+        void sync_ShouldStartBeforeUnsettledEntries() {
+            projectService.createProject(project("Settled"), email);
+            jdbcTemplate.update("UPDATE change_log SET changed_at = ? WHERE owner_id = ?",
+                    Timestamp.valueOf(LocalDateTime.now().minusHours(1)), (Object) JdbcUuid.toBytes(userId));
+            // Could still be joined by an entry with a lower seq that commits after the position is taken
+            UUID freshId = projectService.createProject(project("Fresh"), email).getId();
+
+            String cursor = settlingSyncService.sync(userId, null, 100).getCursor();
+
+            SyncResponse delta = settlingSyncService.sync(userId, cursor, 100);
+            assertEquals(List.of(freshId), delta.getProjects().stream().map(ProjectResponse::getId).toList());
+        }
+    }
+
+    @Test
+    void sync_ShouldRejectCursorsOlderThanThePrunedLog() {
+        String cursor = syncService.sync(userId, null, 100).getCursor();
+        projectService.createProject(project("Pruned"), email);
+        Long newest = jdbcTemplate.queryForObject("SELECT MAX(seq) FROM change_log", Long.class);
+        jdbcTemplate.update("UPDATE change_log_pruned SET pruned_through = ? WHERE id = 1", newest);
+        try {
+            assertThrows(CursorExpiredException.class, () -> syncService.sync(userId, cursor, 100));
+        } finally {
+            jdbcTemplate.update("UPDATE change_log_pruned SET pruned_through = 0 WHERE id = 1");
+        }
+    }
+}
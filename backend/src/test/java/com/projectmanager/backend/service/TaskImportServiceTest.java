@@ -0,0 +1,135 @@
+package com.projectmanager.backend.service;
+
+import com.projectmanager.backend.dto.response.TaskImportResponse;
+import com.projectmanager.backend.mapper.TaskMapper;
+import com.projectmanager.backend.model.Task;
+import com.projectmanager.backend.repository.ProjectCounterRepository;
+import com.projectmanager.backend.repository.ProjectRepository;
+import com.projectmanager.backend.repository.TaskImportRepository;
+import jakarta.validation.Validation;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.test.util.ReflectionTestUtils;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+class TaskImportServiceTest {
+
+    @Mock
+    private ProjectRepository projectRepository;
+    @Mock
+    private ProjectCounterRepository projectCounterRepository;
+    @Mock
+    private TaskImportRepository taskImportRepository;
+    @Mock
+    private TransactionTemplate transactionTemplate;
+    @Mock
+    private SearchService searchService;
+    @Mock
+    private SyncService syncService;
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    private TaskImportService taskImportService;
+
+    private final UUID projectId = UUID.randomUUID();
+    private final UUID ownerId = UUID.randomUUID();
+    private final String email = "test@test.com";
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        taskImportService = new TaskImportService(projectRepository, projectCounterRepository, taskImportRepository,
+                new TaskMapper(), Validation.buildDefaultValidatorFactory().getValidator(),
+                JsonMapper.builder().build(), transactionTemplate, searchService, syncService, eventPublisher);
+        ReflectionTestUtils.setField(taskImportService, "batchSize", 2);
+
+        when(projectRepository.findOwnerIdByIdAndUserEmail(projectId, email)).thenReturn(Optional.of(ownerId));
+        when(transactionTemplate.execute(any())).thenAnswer(inv -> ((TransactionCallback<?>) inv.getArgument(0))
+                .doInTransaction(null));
+    }
+
+    @Test
+    void importTasks_ShouldBatchValidRows_AndReportInvalidOnes() {
+        String due = LocalDate.now().plusDays(1).toString();
+        String body = "{\"title\":\"A\",\"description\":\"a\",\"dueDate\":\"" + due + "\"}\n"
+                + "{\"title\":\"\",\"description\":\"b\",\"dueDate\":\"" + due + "\"}\n"
+                + "not json\n"
+                + "{\"title\":\"C\",\"description\":\"c\",\"dueDate\":\"" + due + "\",\"isCompleted\":true}\n"
+                + "{\"title\":\"D\",\"description\":\"d\",\"dueDate\":\"" + due + "\"}\n";
+
+        TaskImportResponse result = taskImportService.importTasks(projectId, TaskImportService.Format.NDJSON,
+                new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8)), email);
+
+        assertEquals(3, result.getImported());
+        assertEquals(2, result.getFailed());
+        assertEquals(List.of(2L, 3L), result.getErrors().stream().map(TaskImportResponse.RowError::getLine).toList());
+        verify(taskImportRepository, times(2)).insertBatch(eq(projectId), anyList());
+        verify(projectCounterRepository).adjustTaskCounters(projectId, 2, 1);
+        verify(projectCounterRepository).adjustTaskCounters(projectId, 1, 0);
+        verify(searchService, times(2)).indexNewTasks(eq(ownerId), eq(projectId), anyList());
+    }
+
+    @Test
+    void importCsv_ShouldMapColumnsByHeaderName() {
+        String due = LocalDate.now().plusDays(1).toString();
+        String body = "isCompleted,dueDate,Title,description\n"
+                + "true," + due + ",\"Ship, then rest\",notes\n";
+        ArgumentCaptor<List<Task>> chunk = ArgumentCaptor.captor();
+
+        TaskImportResponse result = importCsv(body);
+
+        assertEquals(1, result.getImported());
+        verify(taskImportRepository).insertBatch(eq(projectId), chunk.capture());
+        Task task = chunk.getValue().get(0);
+        assertEquals("Ship, then rest", task.getTitle());
+        assertEquals("notes", task.getDescription());
+        assertEquals(LocalDate.parse(due), task.getDueDate());
+        assertTrue(task.isCompleted());
+    }
+
+    @Test
+    void importCsv_ShouldRejectAFileWithoutHeader_OnLine1() {
+        String body = "First task,a," + LocalDate.now().plusDays(1) + "\n";
+
+        IllegalArgumentException e = assertThrows(IllegalArgumentException.class, () -> importCsv(body));
+
+        assertTrue(e.getMessage().startsWith("Line 1"), e.getMessage());
+        verifyNoInteractions(taskImportRepository);
+    }
+
+    @Test
+    void importCsv_ShouldRejectAHeaderMissingARequiredColumn() {
+        assertThrows(IllegalArgumentException.class, () -> importCsv("title,dueDate\n"));
+        assertThrows(IllegalArgumentException.class, () -> importCsv("title,title,description,dueDate\n"));
+    }
+
+    @Test
+    void splitCsv_ShouldHandleQuotedFields() {
+        assertEquals(List.of("Fix, then ship", "say \"hi\"", "2030-01-01"),
+                TaskImportService.splitCsv("\"Fix, then ship\",\"say \"\"hi\"\"\",2030-01-01"));
+    }
+
+    private TaskImportResponse importCsv(String body) {
+        return taskImportService.importTasks(projectId, TaskImportService.Format.CSV,
+                new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8)), email);
+    }
+}
@@ -6,16 +6,19 @@ import com.projectmanager.backend.mapper.TaskMapper;
 import com.projectmanager.backend.model.Project;
 import com.projectmanager.backend.model.Task;
 import com.projectmanager.backend.model.User;
+import com.projectmanager.backend.repository.ProjectCounterRepository;
 import com.projectmanager.backend.repository.ProjectRepository;
 import com.projectmanager.backend.repository.TaskRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.springframework.context.ApplicationEventPublisher;
 import org.mockito.MockitoAnnotations;
 
 import java.time.LocalDate;
 import java.util.Optional;
+import java.util.List;
 import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -29,7 +32,15 @@ class TaskServiceTest {
     @Mock
     private ProjectRepository projectRepository;
     @Mock
+    private ProjectCounterRepository projectCounterRepository;
+    @Mock
     private TaskMapper taskMapper;
+    @Mock
+    private SearchService searchService;
+    @Mock
+    private SyncService syncService;
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
 
     @InjectMocks
     private TaskService taskService;
@@ -63,7 +74,9 @@ class TaskServiceTest {
         TaskResponse response = new TaskResponse();
         response.setTitle("Unit Test Task");
 
-        when(projectRepository.findById(projectId)).thenReturn(Optional.of(project));
+        UUID ownerId = UUID.randomUUID();
+        when(projectRepository.findOwnerIdByIdAndUserEmail(projectId, email)).thenReturn(Optional.of(ownerId));
+        when(projectRepository.getReferenceById(projectId)).thenReturn(project);
         when(taskMapper.toEntity(request)).thenReturn(task);
         when(taskRepository.save(any(Task.class))).thenReturn(task);
         when(taskMapper.toResponse(task)).thenReturn(response);
@@ -73,5 +86,33 @@ class TaskServiceTest {
         assertNotNull(result);
         assertEquals("Unit Test Task", result.getTitle());
         verify(taskRepository, times(1)).save(any(Task.class));
+        verify(searchService).indexNewTasks(ownerId, projectId, List.of(task));
+    }
+
+    @Test
+    void markTaskAsCompleted_ShouldIncrementCompletedCounter_OnlyWhenStateChanges() {
+        UUID projectId = UUID.randomUUID();
+        String email = "test@test.com";
+
+        User user = new User();
+        user.setEmail(email);
+
+        Project project = new Project();
+        project.setId(projectId);
+        project.setUser(user);
+
+        Task task = new Task();
+        task.setId(UUID.randomUUID());
+        task.setProject(project);
+
+        when(taskRepository.findByIdAndOwnerEmail(task.getId(), email)).thenReturn(Optional.of(task));
+        when(taskRepository.save(task)).thenReturn(task);
+
+        taskService.markTaskAsCompleted(task.getId(), email);
+        taskService.markTaskAsCompleted(task.getId(), email);
+
+        verify(projectCounterRepository, times(1)).adjustTaskCounters(projectId, 0, 1);
+        // The no-op leaves the project and its version alone
+        verify(projectCounterRepository, never()).adjustTaskCounters(projectId, 0, 0);
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,26 @@
+-- Schema and data of a database created by ddl-auto=update from the entities before migrations were introduced.
+-- Hibernate's hashed constraint names are replaced with readable ones; no migration refers to them.
+
+CREATE TABLE users (id BINARY(16) NOT NULL, email VARCHAR(255) NOT NULL, password VARCHAR(255) NOT NULL,
+    PRIMARY KEY (id));
+ALTER TABLE users ADD CONSTRAINT uk_baseline_users_email UNIQUE (email);
+CREATE TABLE projects (created_at DATETIME(6) NOT NULL, id BINARY(16) NOT NULL, user_id BINARY(16) NOT NULL,
+    description VARCHAR(255), title VARCHAR(255) NOT NULL, PRIMARY KEY (id));
+CREATE TABLE tasks (completed BOOLEAN DEFAULT FALSE NOT NULL, due_date DATE NOT NULL, created_at DATETIME(6) NOT NULL,
+    id BINARY(16) NOT NULL, project_id BINARY(16) NOT NULL, description VARCHAR(255) NOT NULL,
+    title VARCHAR(255) NOT NULL, PRIMARY KEY (id));
+ALTER TABLE projects ADD CONSTRAINT fk_baseline_projects_user FOREIGN KEY (user_id) REFERENCES users (id);
+ALTER TABLE tasks ADD CONSTRAINT fk_baseline_tasks_project FOREIGN KEY (project_id) REFERENCES projects (id);
+
+INSERT INTO users (id, email, password)
+VALUES (X'0000000000004000800000000000000a', 'baseline@test.com', 'x');
+INSERT INTO projects (created_at, id, user_id, description, title)
+VALUES ('2025-01-01 09:00:00', X'0000000000004000800000000000001a', X'0000000000004000800000000000000a', 'Old', 'Started'),
+       ('2025-01-02 09:00:00', X'0000000000004000800000000000001b', X'0000000000004000800000000000000a', 'Old', 'Empty');
+INSERT INTO tasks (completed, due_date, created_at, id, project_id, description, title)
+VALUES (TRUE, '2025-02-01', '2025-01-01 10:00:00', X'0000000000004000800000000000002a',
+        X'0000000000004000800000000000001a', 'd', 'Done'),
+       (FALSE, '2025-02-01', '2025-01-01 10:00:00', X'0000000000004000800000000000002b',
+        X'0000000000004000800000000000001a', 'd', 'Open'),
+       (FALSE, '2025-02-01', '2025-01-01 10:00:00', X'0000000000004000800000000000002c',
+        X'0000000000004000800000000000001a', 'd', 'Also open');
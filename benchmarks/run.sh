@@ -0,0 +1,19 @@
+#!/usr/bin/env sh
+# Builds the backend and the benchmarks, then runs JMH with the GC profiler.
+# Results go to results/<commit>.json so runs on different commits can be compared:
+#   ./run.sh                          all benchmarks
+#   ./run.sh JwtBenchmark -f 1 -wi 1  any JMH selector and options
+#   java -cp target/benchmarks.jar com.projectmanager.benchmarks.CompareResults results/<a>.json results/<b>.json
+set -e
+cd "$(dirname "$0")"
+
+(cd ../backend && mvn -B -q install -DskipTests)
+mvn -B -q package
+
+commit=$(git rev-parse --short HEAD)
+if ! git diff --quiet HEAD -- ../backend/src src; then
+    commit="$commit-dirty"
+fi
+mkdir -p results
+java -jar target/benchmarks.jar -prof gc -rf json -rff "results/$commit.json" "$@"
+echo "Results written to results/$commit.json"
@@ -0,0 +1,71 @@
+package com.projectmanager.benchmarks;
+
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.File;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Prints throughput and allocation per operation side by side for two JMH JSON result files
+ * (typically results/&lt;baseline-commit&gt;.json and results/&lt;current-commit&gt;.json).
+ * Exits with status 1 when any benchmark lost more throughput than the threshold, default 10%.
+ */
+public final class CompareResults {
+    private static final String ALLOCATION = "gc.alloc.rate.norm";
+
+    private CompareResults() {
+    }
+
+    public static void main(String[] args) {
+        if (args.length < 2) {
+            System.err.println("Usage: CompareResults <baseline.json> <current.json> [max-regression-percent]");
+            System.exit(2);
+        }
+        double maxRegression = args.length > 2 ? Double.parseDouble(args[2]) : 10.0;
+        ObjectMapper mapper = JsonMapper.builder().build();
+        Map<String, JsonNode> baseline = index(mapper.readTree(new File(args[0])));
+        Map<String, JsonNode> current = index(mapper.readTree(new File(args[1])));
+
+        boolean regressed = false;
+        System.out.printf("%-80s %14s %14s %8s %12s %12s%n",
+                "benchmark", "baseline", "current", "delta", "B/op base", "B/op now");
+        for (Map.Entry<String, JsonNode> entry : current.entrySet()) {
+            JsonNode before = baseline.get(entry.getKey());
+            JsonNode after = entry.getValue();
+            double now = score(after.path("primaryMetric"));
+            if (before == null) {
+                System.out.printf("%-80s %14s %14.3f %8s%n", entry.getKey(), "-", now, "new");
+                continue;
+            }
+            double then = score(before.path("primaryMetric"));
+            double delta = then == 0 ? 0 : (now - then) / then * 100;
+            regressed |= delta < -maxRegression;
+            System.out.printf("%-80s %14.3f %14.3f %7.1f%% %12.1f %12.1f%n", entry.getKey(), then, now, delta,
+                    score(before.path("secondaryMetrics").path(ALLOCATION)),
+                    score(after.path("secondaryMetrics").path(ALLOCATION)));
+        }
+        if (regressed) {
+            System.out.printf("Throughput regressed by more than %.1f%%%n", maxRegression);
+            System.exit(1);
+        }
+    }
+
+    // Keyed by benchmark name plus its @Param values
+    private static Map<String, JsonNode> index(JsonNode results) {
+        Map<String, JsonNode> byName = new LinkedHashMap<>();
+        for (JsonNode result : results) {
+            StringBuilder key = new StringBuilder(result.path("benchmark").asString());
+            result.path("params").properties().forEach(param ->
+                    key.append(' ').append(param.getKey()).append('=').append(param.getValue().asString()));
+            byName.put(key.toString(), result);
+        }
+        return byName;
+    }
+
+    private static double score(JsonNode metric) {
+        return metric.path("score").asDouble(Double.NaN);
+    }
+}
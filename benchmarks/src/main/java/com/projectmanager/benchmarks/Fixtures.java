@@ -0,0 +1,62 @@
+package com.projectmanager.benchmarks;
+
+import com.projectmanager.backend.model.Project;
+import com.projectmanager.backend.model.Task;
+import com.projectmanager.backend.security.JwtUtils;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Builds the objects the benchmarks exercise the same way the application wires them, without a Spring context.
+ */
+final class Fixtures {
+    static final String SECRET = "MySuperSecretKeyForTheProject12345!";
+
+    private Fixtures() {
+    }
+
+    static JwtUtils jwtUtils(long cacheMaxSize) {
+        JwtUtils jwtUtils = new JwtUtils();
+        ReflectionTestUtils.setField(jwtUtils, "secretString", SECRET);
+        ReflectionTestUtils.setField(jwtUtils, "jwtExpirationMs", 86400000);
+        ReflectionTestUtils.setField(jwtUtils, "jwtCacheMaxSize", cacheMaxSize);
+        jwtUtils.init();
+        return jwtUtils;
+    }
+
+    static Project project(int taskCount) {
+        Project project = Project.builder()
+                .id(UUID.randomUUID())
+                .title("Quarterly planning")
+                .description("Roadmap, budget and hiring for the next quarter")
+                .createdAt(LocalDateTime.now())
+                .build();
+        List<Task> tasks = new ArrayList<>(taskCount);
+        int completed = 0;
+        for (int i = 0; i < taskCount; i++) {
+            Task task = task(project, i);
+            completed += task.isCompleted() ? 1 : 0;
+            tasks.add(task);
+        }
+        project.setTasks(tasks);
+        project.setTotalTasks(taskCount);
+        project.setCompletedTasks(completed);
+        return project;
+    }
+
+    static Task task(Project project, int index) {
+        Task task = new Task();
+        task.setId(UUID.randomUUID());
+        task.setTitle("Task " + index);
+        task.setDescription("Follow up on item " + index);
+        task.setDueDate(LocalDate.now().plusDays(index % 30));
+        task.setCompleted(index % 3 == 0);
+        task.setProject(project);
+        return task;
+    }
+}
@@ -0,0 +1,71 @@
+package com.projectmanager.benchmarks;
+
+import com.projectmanager.backend.security.JwtUtils;
+import io.jsonwebtoken.Claims;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Token issue and verification. The "cached" cases hit the verified-claims cache the way repeat requests do;
+ * the "uncached" case rotates through more tokens than its one-entry cache holds, so it measures the full
+ * HMAC check and claims parse.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JwtBenchmark {
+    private static final int UNCACHED_TOKENS = 1024;
+    private static final UUID USER_ID = UUID.randomUUID();
+
+    private JwtUtils cached;
+    private JwtUtils uncached;
+    private String token;
+    private String[] tokens;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        cached = Fixtures.jwtUtils(10000);
+        uncached = Fixtures.jwtUtils(1);
+        token = cached.generateToken("bench@test.com", USER_ID);
+        tokens = new String[UNCACHED_TOKENS];
+        for (int i = 0; i < UNCACHED_TOKENS; i++) {
+            tokens[i] = uncached.generateToken("user" + i + "@test.com", UUID.randomUUID());
+        }
+    }
+
+    @Benchmark
+    public String generateToken() {
+        return cached.generateToken("bench@test.com", USER_ID);
+    }
+
+    @Benchmark
+    public boolean validateToken_cached() {
+        return cached.validateToken(token);
+    }
+
+    @Benchmark
+    public String getEmailFromToken_cached() {
+        return cached.getEmailFromToken(token);
+    }
+
+    @Benchmark
+    public Claims verifyToken_uncached() {
+        next = (next + 1) & (UNCACHED_TOKENS - 1);
+        return uncached.verifyToken(tokens[next]);
+    }
+}
@@ -0,0 +1,58 @@
+package com.projectmanager.benchmarks;
+
+import com.projectmanager.backend.dto.response.ProjectResponse;
+import com.projectmanager.backend.dto.response.TaskResponse;
+import com.projectmanager.backend.mapper.ProjectMapper;
+import com.projectmanager.backend.mapper.TaskMapper;
+import com.projectmanager.backend.model.Project;
+import com.projectmanager.backend.model.Task;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Entity to DTO mapping. ProjectMapper reads the denormalized counters, so its cost should stay flat
+ * whatever the size of the task collection on the entity.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MapperBenchmark {
+
+    @Param({"0", "10", "1000", "10000"})
+    private int taskCount;
+
+    private final ProjectMapper projectMapper = new ProjectMapper();
+    private final TaskMapper taskMapper = new TaskMapper();
+    private Project project;
+    private Task task;
+
+    @Setup
+    public void setUp() {
+        project = Fixtures.project(taskCount);
+        task = Fixtures.task(project, 1);
+    }
+
+    @Benchmark
+    public ProjectResponse projectToResponse() {
+        return projectMapper.toResponse(project);
+    }
+
+    @Benchmark
+    public TaskResponse taskToResponse() {
+        return taskMapper.toResponse(task);
+    }
+}
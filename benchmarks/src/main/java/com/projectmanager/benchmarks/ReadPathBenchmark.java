@@ -0,0 +1,155 @@
+package com.projectmanager.benchmarks;
+
+import com.projectmanager.backend.BackendApplication;
+import com.projectmanager.backend.dto.response.ProjectResponse;
+import com.projectmanager.backend.dto.response.TaskResponse;
+import com.projectmanager.backend.mapper.ProjectMapper;
+import com.projectmanager.backend.mapper.TaskMapper;
+import com.projectmanager.backend.model.Project;
+import com.projectmanager.backend.model.Task;
+import com.projectmanager.backend.model.UuidV7;
+import com.projectmanager.backend.repository.BulkLoadRepository;
+import com.projectmanager.backend.repository.BulkLoadRepository.ProjectRow;
+import com.projectmanager.backend.repository.BulkLoadRepository.TaskRow;
+import com.projectmanager.backend.repository.BulkLoadRepository.UserRow;
+import com.projectmanager.backend.repository.ProjectRepository;
+import com.projectmanager.backend.repository.TaskRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.orm.jpa.SharedEntityManagerCreator;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Project listing and task list reads against the backend's own JPA setup on in-memory H2: loading managed entities
+ * and mapping them, as the services did before, versus the DTO constructor projections they use now.
+ * Each read runs in a read-only transaction like the service methods, and bypasses the query cache.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ReadPathBenchmark {
+    private static final String EMAIL = "bench@example.com";
+
+    // Projects on the listed page, and tasks in the listed project
+    @Param({"10", "100", "1000"})
+    private int rows;
+
+    private final ProjectMapper projectMapper = new ProjectMapper();
+    private final TaskMapper taskMapper = new TaskMapper();
+    private ConfigurableApplicationContext context;
+    private EntityManager entityManager;
+    private TransactionTemplate readOnly;
+    private UUID projectId;
+
+    @Setup
+    public void setUp() {
+        context = SpringApplication.run(BackendApplication.class,
+                "--spring.datasource.url=jdbc:h2:mem:bench;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1",
+                "--spring.datasource.username=sa",
+                "--spring.datasource.password=",
+                "--server.port=0",
+                "--management.server.port=0",
+                "--logging.level.root=WARN");
+        entityManager = SharedEntityManagerCreator.createSharedEntityManager(
+                context.getBean(EntityManagerFactory.class));
+        PlatformTransactionManager transactionManager = context.getBean(PlatformTransactionManager.class);
+        readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+        projectId = seed(context.getBean(BulkLoadRepository.class), new TransactionTemplate(transactionManager));
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public List<ProjectResponse> projectPageFromEntities() {
+        return readOnly.execute(status -> entityManager
+                .createQuery("SELECT p FROM Project p WHERE p.user.email = :email", Project.class)
+                .setParameter("email", EMAIL)
+                .setMaxResults(rows)
+                .getResultList()
+                .stream()
+                .map(projectMapper::toResponse)
+                .toList());
+    }
+
+    @Benchmark
+    public List<ProjectResponse> projectPageFromProjection() {
+        return readOnly.execute(status -> entityManager
+                .createQuery(ProjectRepository.PROJECT_RESPONSE + "WHERE p.user.email = :email",
+                        ProjectResponse.class)
+                .setParameter("email", EMAIL)
+                .setMaxResults(rows)
+                .getResultList());
+    }
+
+    @Benchmark
+    public List<TaskResponse> taskListFromEntities() {
+        return readOnly.execute(status -> entityManager
+                .createQuery("SELECT t FROM Task t WHERE t.project.id = :projectId", Task.class)
+                .setParameter("projectId", projectId)
+                .getResultList()
+                .stream()
+                .map(taskMapper::toResponse)
+                .toList());
+    }
+
+    @Benchmark
+    public List<TaskResponse> taskListFromProjection() {
+        return readOnly.execute(status -> entityManager
+                .createQuery(TaskRepository.TASK_RESPONSE + "WHERE t.project.id = :projectId", TaskResponse.class)
+                .setParameter("projectId", projectId)
+                .getResultList());
+    }
+
+    // One user with `rows` projects; the first holds `rows` tasks. Returns that project's id
+    private UUID seed(BulkLoadRepository bulkLoad, TransactionTemplate transaction) {
+        UUID userId = UuidV7.generate();
+        LocalDateTime now = LocalDateTime.now();
+        List<ProjectRow> projects = new ArrayList<>(rows);
+        for (int p = 0; p < rows; p++) {
+            projects.add(new ProjectRow(UuidV7.generate(), userId, "Project " + p, "Benchmark project " + p,
+                    now.minusMinutes(p), p == 0 ? rows : 0, 0));
+        }
+        UUID first = projects.get(0).id();
+        List<TaskRow> tasks = new ArrayList<>(rows);
+        for (int t = 0; t < rows; t++) {
+            tasks.add(new TaskRow(UuidV7.generate(), first, "Task " + t, "Follow up on item " + t,
+                    LocalDate.now().plusDays(t % 30), false, now));
+        }
+        transaction.executeWithoutResult(status -> {
+            bulkLoad.insertUsers(List.of(new UserRow(userId, EMAIL, "unused")));
+            bulkLoad.insertProjects(projects);
+            bulkLoad.insertTasks(tasks);
+        });
+        bulkLoad.evictAll();
+        return first;
+    }
+}
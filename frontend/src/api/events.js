@@ -0,0 +1,68 @@
+import api from './axios';
+
+const MAX_RETRY_MS = 30000;
+
+// Splits an SSE block into its event name and JSON data; heartbeats and other comments carry no data
+const parseEvent = (block) => {
+    let name = 'message';
+    const data = [];
+    for (const line of block.split(/\r?\n/)) {
+        if (line.startsWith('event:')) name = line.slice(6).trim();
+        else if (line.startsWith('data:')) data.push(line.slice(5).trimStart());
+    }
+    return data.length ? { name, data: JSON.parse(data.join('\n')) } : null;
+};
+
+const readEvents = async (body, onEvent) => {
+    const reader = body.pipeThrough(new TextDecoderStream()).getReader();
+    let buffer = '';
+    for (;;) {
+        const { value, done } = await reader.read();
+        if (done) return;
+        buffer += value;
+        const blocks = buffer.split(/\r?\n\r?\n/);
+        buffer = blocks.pop();
+        for (const block of blocks) {
+            const event = parseEvent(block);
+            if (event) onEvent(event.name, event.data);
+        }
+    }
+};
+
+// Streams /api/events and calls onEvent(name, data) for "change" and "resync" events.
+// EventSource cannot send the Authorization header, so the stream is read with fetch.
+// Changes are not replayed after a drop, so every reconnect starts with a "resync". Returns an unsubscribe function.
+export const subscribeToChanges = (onEvent) => {
+    const controller = new AbortController();
+
+    const run = async () => {
+        let retryMs = 1000;
+        let connectedBefore = false;
+        while (!controller.signal.aborted) {
+            try {
+                const response = await fetch(`${api.defaults.baseURL}/events`, {
+                    headers: {
+                        Authorization: `Bearer ${localStorage.getItem('token')}`,
+                        Accept: 'text/event-stream',
+                    },
+                    signal: controller.signal,
+                });
+                if (response.status === 401 || response.status === 403) return;
+                if (response.ok) {
+                    retryMs = 1000;
+                    if (connectedBefore) onEvent('resync', {});
+                    connectedBefore = true;
+                    await readEvents(response.body, onEvent);
+                }
+            } catch (error) {
+                if (controller.signal.aborted) return;
+            }
+            // Dropped or refused (503 when too many streams are open): back off and try again
+            await new Promise((resolve) => setTimeout(resolve, retryMs));
+            retryMs = Math.min(retryMs * 2, MAX_RETRY_MS);
+        }
+    };
+
+    run();
+    return () => controller.abort();
+};
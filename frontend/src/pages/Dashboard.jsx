@@ -1,5 +1,6 @@
-import React, { useState, useEffect } from 'react';
+import React, { useState, useEffect, useRef } from 'react';
 import api from '../api/axios';
+import { subscribeToChanges } from '../api/events';
 import Navbar from '../components/Navbar';
 import ProjectCard from '../components/ProjectCard';
 
@@ -33,6 +34,11 @@ const Dashboard = () => {
         fetchProjects();
     }, [search, page]);
 
+    // Task changes move the progress bars too, so any pushed change reloads the current page
+    const refresh = useRef(fetchProjects);
+    refresh.current = fetchProjects;
+    useEffect(() => subscribeToChanges(() => refresh.current()), []);
+
     const handleCreate = async (e) => {
         e.preventDefault();
         try {
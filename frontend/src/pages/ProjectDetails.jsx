@@ -1,6 +1,7 @@
-import React, { useState, useEffect } from 'react';
+import React, { useState, useEffect, useRef } from 'react';
 import { useParams, Link, useNavigate } from 'react-router-dom';
 import api from '../api/axios';
+import { subscribeToChanges } from '../api/events';
 import Navbar from '../components/Navbar';
 import TaskItem from '../components/TaskItem';
 
@@ -16,14 +17,36 @@ const ProjectDetails = () => {
     const [newTask, setNewTask] = useState({ title: '', description: '', dueDate: '' });
     const [search, setSearch] = useState(''); 
     const [editingTaskId, setEditingTaskId] = useState(null)
-    const fetchData = async () => {
+    const [nextCursor, setNextCursor] = useState(null);
+    const pageSize = 20;
+
+    // Status and search are applied by the server, so they cover the pages not loaded yet
+    const tasksUrl = (cursor) => {
+        const status = filter === 'completed' ? '&completed=true' : filter === 'pending' ? '&completed=false' : '';
+        const term = search.trim() ? `&search=${encodeURIComponent(search.trim())}` : '';
+        return `/projects/${id}/tasks/scroll?limit=${pageSize}${status}${term}${cursor ? `&cursor=${cursor}` : ''}`;
+    };
+
+    // Loads pages until at least `count` tasks are in, so a reload keeps what "Load more" already showed
+    const loadTasks = async (count) => {
+        let items = [];
+        let cursor = null;
+        do {
+            const tasksRes = await api.get(tasksUrl(cursor));
+            items = [...items, ...tasksRes.data.items];
+            cursor = tasksRes.data.nextCursor;
+        } while (cursor && items.length < count);
+        setTasks(items);
+        setNextCursor(cursor);
+    };
+
+    const fetchData = async (count = pageSize) => {
         try {
-            const [projectRes, tasksRes] = await Promise.all([
+            const [projectRes] = await Promise.all([
                 api.get(`/projects/${id}`),
-                api.get(`/projects/${id}/tasks`)
+                loadTasks(count)
             ]);
             setProject(projectRes.data);
-            setTasks(tasksRes.data);
         } catch (error) {
             console.error("Error fetching data", error);
         } finally {
@@ -31,9 +54,29 @@ const ProjectDetails = () => {
         }
     };
 
+    const handleLoadMore = async () => {
+        try {
+            const tasksRes = await api.get(tasksUrl(nextCursor));
+            setTasks([...tasks, ...tasksRes.data.items]);
+            setNextCursor(tasksRes.data.nextCursor);
+        } catch (error) {
+            console.error("Error loading more tasks", error);
+        }
+    };
+
     useEffect(() => {
         fetchData();
-    }, [id]);
+    }, [id, filter, search]);
+
+    // After a change, reload as many tasks as are on screen
+    const reload = () => fetchData(Math.max(tasks.length, pageSize));
+
+    // Reload when another tab or device changes this project or its tasks
+    const refresh = useRef(reload);
+    refresh.current = reload;
+    useEffect(() => subscribeToChanges((name, event) => {
+        if (name === 'resync' || event.projectId === id) refresh.current();
+    }), [id]);
 
     const handleSaveTask = async (e) => {
         e.preventDefault();
@@ -50,7 +93,7 @@ const ProjectDetails = () => {
             setShowForm(false);
             setEditingTaskId(null); 
             
-            fetchData(); 
+            reload(); 
             
         } catch (error) {
             const message = error.response?.data?.message || 
@@ -87,15 +130,15 @@ const ProjectDetails = () => {
         try {
             if (!isCurrentlyCompleted) await api.patch(`/tasks/${taskId}/complete`);
             else await api.patch(`/tasks/${taskId}/incomplete`);
-            fetchData();
-         } catch (e) { fetchData(); }
+            reload();
+         } catch (e) { reload(); }
     };
 
     const handleDeleteTask = async (taskId) => {
         if (!window.confirm("Delete this task?")) return;
         try {
             await api.delete(`/tasks/${taskId}`);
-            fetchData();
+            reload();
         } catch (error) {
             alert("Failed to delete task");
         }
@@ -196,13 +239,8 @@ const ProjectDetails = () => {
 
                 {/* Task List */}
                 <div className="space-y-3">
-                    {tasks.length === 0 ? <p className="text-center py-8 text-gray-500">No tasks yet.</p> : 
-                        tasks.filter(task => {
-                            const isFinished = task.isCompleted ?? task.completed ?? false;
-                            const matchesStatus = filter === 'all' ? true : filter === 'completed' ? isFinished : !isFinished;
-                            const matchesSearch = task.title.toLowerCase().includes(search.toLowerCase());
-                            return matchesStatus && matchesSearch;
-                        }).map(task => (
+                    {tasks.length === 0 ? <p className="text-center py-8 text-gray-500">{search.trim() ? 'No matching tasks.' : 'No tasks yet.'}</p> : 
+                        tasks.map(task => (
                             <TaskItem
                                 key={task.id}
                                 task={task}
@@ -213,6 +251,14 @@ const ProjectDetails = () => {
                         ))
                     }
                 </div>
+
+                {nextCursor && (
+                    <div className="mt-6 text-center">
+                        <button onClick={handleLoadMore} className="rounded border border-gray-300 px-4 py-2 text-sm text-gray-700 hover:bg-gray-100">
+                            Load more
+                        </button>
+                    </div>
+                )}
             </main>
         </div>
     );
@@ -0,0 +1,21 @@
+#!/usr/bin/env sh
+# Builds the backend and the harness, then runs the load test. Results go to results/<commit>.json.
+#   ./run.sh                                           default dataset and mix, 15s warmup, 60s measured
+#   ./run.sh --profiles=virtual-threads                needs a JDK 21+, builds with -Pjava21
+#   ./run.sh --baseline=results/baseline.json         exit 1 on a regression beyond --max-regression (20%)
+set -e
+cd "$(dirname "$0")"
+
+# Virtual threads only exist on 21+; build both modules for it so an older JDK fails here rather than mid-run
+build_profile=
+case " $* " in
+    *--profiles=*virtual-threads*) build_profile=-Pjava21 ;;
+esac
+(cd ../backend && mvn -B -q install -DskipTests $build_profile)
+mvn -B -q package $build_profile
+
+commit=$(git rev-parse --short HEAD)
+if ! git diff --quiet HEAD -- ../backend/src; then
+    commit="$commit-dirty"
+fi
+java -jar target/loadtest.jar --output="results/$commit.json" "$@"
@@ -0,0 +1,69 @@
+package com.projectmanager.loadtest;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Raw per-route latency samples for one worker, merged after the run. Keeping every sample (8 bytes each)
+ * gives exact percentiles; a minute at a few thousand requests per second is only a few megabytes.
+ */
+final class LatencyRecorder {
+    private final Map<String, Samples> byRoute = new HashMap<>();
+
+    void record(String route, long nanos, boolean error) {
+        Samples samples = byRoute.computeIfAbsent(route, key -> new Samples());
+        samples.add(nanos);
+        if (error) {
+            samples.errors++;
+        }
+    }
+
+    static Map<String, Samples> merge(Iterable<LatencyRecorder> recorders) {
+        Map<String, Samples> merged = new TreeMap<>();
+        for (LatencyRecorder recorder : recorders) {
+            recorder.byRoute.forEach((route, samples) -> merged.computeIfAbsent(route, key -> new Samples()).addAll(samples));
+        }
+        return merged;
+    }
+
+    static final class Samples {
+        private long[] values = new long[1024];
+        private int size;
+        private boolean sorted;
+        long errors;
+
+        void add(long value) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = value;
+            sorted = false;
+        }
+
+        void addAll(Samples other) {
+            for (int i = 0; i < other.size; i++) {
+                add(other.values[i]);
+            }
+            errors += other.errors;
+        }
+
+        int count() {
+            return size;
+        }
+
+        // Nearest-rank percentile in milliseconds
+        double percentileMs(double percentile) {
+            if (size == 0) {
+                return 0;
+            }
+            if (!sorted) {
+                Arrays.sort(values, 0, size);
+                sorted = true;
+            }
+            int rank = (int) Math.ceil(percentile / 100.0 * size);
+            return values[Math.max(0, rank - 1)] / 1_000_000.0;
+        }
+    }
+}
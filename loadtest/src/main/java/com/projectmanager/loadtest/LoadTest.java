@@ -0,0 +1,107 @@
+package com.projectmanager.loadtest;
+
+import com.projectmanager.backend.BackendApplication;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.File;
+import java.net.http.HttpClient;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Boots the backend in-process on an in-memory H2 database in MySQL mode (the same stand-in the tests use),
+ * seeds a dataset, drives a mixed workload over HTTP and writes per-route p50/p95/p99 and throughput as JSON.
+ * With --baseline=file the run exits with status 1 when a route regressed against it.
+ */
+public final class LoadTest {
+
+    private LoadTest() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        Options options = Options.parse(args);
+        ObjectMapper objectMapper = JsonMapper.builder().build();
+
+        ConfigurableApplicationContext context = SpringApplication.run(BackendApplication.class, backendArguments(options));
+        boolean regressed;
+        try {
+            String baseUrl = "http://localhost:" + context.getEnvironment().getProperty("local.server.port");
+
+            long seedStart = System.nanoTime();
+            List<Seeder.SeededUser> users = new Seeder(context, options.seed).seed(options);
+            System.out.printf("Seeded %d users in %d ms%n", users.size(),
+                    TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - seedStart));
+
+            Map<String, Object> report = drive(options, objectMapper, baseUrl, users);
+            Report.print(report);
+
+            File output = new File(options.output != null ? options.output : "results/loadtest.json");
+            if (output.getParentFile() != null) {
+                output.getParentFile().mkdirs();
+            }
+            objectMapper.writerWithDefaultPrettyPrinter().writeValue(output, report);
+            System.out.println("Results written to " + output);
+
+            regressed = options.baseline != null
+                    && Report.compare(objectMapper, new File(options.baseline), report, options.maxRegressionPercent,
+                    options.maxErrorRateIncrease);
+        } finally {
+            context.close();
+        }
+        System.exit(regressed ? 1 : 0);
+    }
+
+    private static Map<String, Object> drive(Options options, ObjectMapper objectMapper, String baseUrl,
+                                             List<Seeder.SeededUser> users) throws InterruptedException {
+        HttpClient client = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+        RunState state = new RunState();
+        List<LatencyRecorder> recorders = new ArrayList<>();
+        List<Thread> workers = new ArrayList<>();
+        for (int i = 0; i < options.concurrency; i++) {
+            LatencyRecorder recorder = new LatencyRecorder();
+            recorders.add(recorder);
+            VirtualUser user = new VirtualUser(client, objectMapper, baseUrl, users.get(i % users.size()),
+                    options.seed + i, recorder, () -> state.running, () -> state.measuring);
+            Thread worker = new Thread(user, "virtual-user-" + i);
+            workers.add(worker);
+            worker.start();
+        }
+
+        Thread.sleep(TimeUnit.SECONDS.toMillis(options.warmupSeconds));
+        state.measuring = true;
+        long start = System.nanoTime();
+        Thread.sleep(TimeUnit.SECONDS.toMillis(options.durationSeconds));
+        state.measuring = false;
+        double seconds = (System.nanoTime() - start) / 1_000_000_000.0;
+        state.running = false;
+        for (Thread worker : workers) {
+            worker.join();
+        }
+        return Report.build(options, LatencyRecorder.merge(recorders), seconds);
+    }
+
+    private static String[] backendArguments(Options options) {
+        List<String> arguments = new ArrayList<>(List.of(
+                "--spring.datasource.url=jdbc:h2:mem:loadtest;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1",
+                "--spring.datasource.username=sa",
+                "--spring.datasource.password=",
+                "--server.port=0",
+                "--management.server.port=0",
+                // Per-request info logging would dominate the measurement on a console
+                "--logging.level.com.projectmanager=WARN"));
+        if (!options.profiles.isBlank()) {
+            arguments.add("--spring.profiles.active=" + options.profiles);
+        }
+        return arguments.toArray(String[]::new);
+    }
+
+    private static final class RunState {
+        volatile boolean running = true;
+        volatile boolean measuring;
+    }
+}
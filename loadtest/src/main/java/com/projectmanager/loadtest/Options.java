@@ -0,0 +1,69 @@
+package com.projectmanager.loadtest;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Harness settings from --name=value arguments. Everything that shapes the run is echoed into the report,
+ * so two result files can only be compared meaningfully when their config blocks match.
+ */
+final class Options {
+    final int users;
+    final int projectsPerUser;
+    final int tasksPerProject;
+    final int concurrency;
+    final int warmupSeconds;
+    final int durationSeconds;
+    final long seed;
+    final String profiles;
+    final String output;
+    final String baseline;
+    final double maxRegressionPercent;
+    final double maxErrorRateIncrease;
+
+    private Options(Map<String, String> values) {
+        users = Integer.parseInt(values.getOrDefault("users", "20"));
+        projectsPerUser = Integer.parseInt(values.getOrDefault("projects-per-user", "25"));
+        tasksPerProject = Integer.parseInt(values.getOrDefault("tasks-per-project", "40"));
+        // The closed loop saturates the CPU at a few users per core already; more only queue up, and logins then
+        // time out waiting for the password hash pool
+        concurrency = Integer.parseInt(values.getOrDefault("concurrency",
+                String.valueOf(4 * Runtime.getRuntime().availableProcessors())));
+        warmupSeconds = Integer.parseInt(values.getOrDefault("warmup", "15"));
+        durationSeconds = Integer.parseInt(values.getOrDefault("duration", "60"));
+        seed = Long.parseLong(values.getOrDefault("seed", "42"));
+        profiles = values.getOrDefault("profiles", "");
+        output = values.get("output");
+        baseline = values.get("baseline");
+        maxRegressionPercent = Double.parseDouble(values.getOrDefault("max-regression", "20"));
+        maxErrorRateIncrease = Double.parseDouble(values.getOrDefault("max-error-rate-increase", "1"));
+    }
+
+    static Options parse(String[] args) {
+        Map<String, String> values = new HashMap<>();
+        for (String arg : args) {
+            if (!arg.startsWith("--") || !arg.contains("=")) {
+                throw new IllegalArgumentException("Expected --name=value, got: " + arg);
+            }
+            int separator = arg.indexOf('=');
+            values.put(arg.substring(2, separator), arg.substring(separator + 1));
+        }
+        return new Options(values);
+    }
+
+    Map<String, Object> describe() {
+        Map<String, Object> config = new LinkedHashMap<>();
+        config.put("users", users);
+        config.put("projectsPerUser", projectsPerUser);
+        config.put("tasksPerProject", tasksPerProject);
+        config.put("concurrency", concurrency);
+        config.put("warmupSeconds", warmupSeconds);
+        config.put("durationSeconds", durationSeconds);
+        config.put("seed", seed);
+        config.put("profiles", profiles);
+        config.put("availableProcessors", Runtime.getRuntime().availableProcessors());
+        config.put("javaVersion", System.getProperty("java.version"));
+        return config;
+    }
+}
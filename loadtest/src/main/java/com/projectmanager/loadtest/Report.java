@@ -0,0 +1,115 @@
+package com.projectmanager.loadtest;
+
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.ObjectMapper;
+
+import java.io.File;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Builds the machine-readable run summary and checks it against a stored baseline.
+ * A route regresses when throughput drops, or p95/p99 grow, by more than the allowed percentage, or when its
+ * error rate rises by more than the allowed number of percentage points; latency changes under a millisecond are
+ * treated as noise.
+ */
+final class Report {
+    private static final double LATENCY_NOISE_MS = 1.0;
+
+    private Report() {
+    }
+
+    static Map<String, Object> build(Options options, Map<String, LatencyRecorder.Samples> routes, double seconds) {
+        Map<String, Object> summary = new LinkedHashMap<>();
+        long total = 0;
+        for (Map.Entry<String, LatencyRecorder.Samples> entry : routes.entrySet()) {
+            LatencyRecorder.Samples samples = entry.getValue();
+            Map<String, Object> route = new LinkedHashMap<>();
+            route.put("count", samples.count());
+            route.put("errors", samples.errors);
+            route.put("errorRate", round(errorRate(samples.errors, samples.count())));
+            route.put("throughput", round(samples.count() / seconds));
+            route.put("p50Ms", round(samples.percentileMs(50)));
+            route.put("p95Ms", round(samples.percentileMs(95)));
+            route.put("p99Ms", round(samples.percentileMs(99)));
+            route.put("maxMs", round(samples.percentileMs(100)));
+            summary.put(entry.getKey(), route);
+            total += samples.count();
+        }
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("finishedAt", Instant.now().toString());
+        report.put("config", options.describe());
+        report.put("measuredSeconds", round(seconds));
+        report.put("throughput", round(total / seconds));
+        report.put("routes", summary);
+        return report;
+    }
+
+    static void print(Map<String, Object> report) {
+        System.out.printf("%-34s %8s %7s %10s %9s %9s %9s %9s%n",
+                "route", "count", "errors", "req/s", "p50 ms", "p95 ms", "p99 ms", "max ms");
+        @SuppressWarnings("unchecked")
+        Map<String, Map<String, Object>> routes = (Map<String, Map<String, Object>>) report.get("routes");
+        routes.forEach((name, route) -> System.out.printf("%-34s %8s %7s %10s %9s %9s %9s %9s%n", name,
+                route.get("count"), route.get("errors"), route.get("throughput"),
+                route.get("p50Ms"), route.get("p95Ms"), route.get("p99Ms"), route.get("maxMs")));
+        System.out.printf("Total throughput: %s req/s%n", report.get("throughput"));
+    }
+
+    // Returns true when any route regressed against the baseline
+    static boolean compare(ObjectMapper objectMapper, File baselineFile, Map<String, Object> report, double maxPercent,
+                           double maxErrorRateIncrease) {
+        JsonNode baseline = objectMapper.readTree(baselineFile);
+        JsonNode current = objectMapper.valueToTree(report);
+        if (!baseline.path("config").toString().equals(current.path("config").toString())) {
+            System.out.println("Warning: baseline was recorded with a different config: " + baseline.path("config"));
+        }
+        boolean regressed = false;
+        for (Map.Entry<String, JsonNode> entry : current.path("routes").properties()) {
+            JsonNode before = baseline.path("routes").path(entry.getKey());
+            if (before.isMissingNode()) {
+                continue;
+            }
+            JsonNode after = entry.getValue();
+            regressed |= check(entry.getKey(), "throughput", before, after, maxPercent, false);
+            regressed |= check(entry.getKey(), "p95Ms", before, after, maxPercent, true);
+            regressed |= check(entry.getKey(), "p99Ms", before, after, maxPercent, true);
+            double errorRateThen = errorRate(before.path("errors").asLong(), before.path("count").asLong());
+            double errorRateNow = errorRate(after.path("errors").asLong(), after.path("count").asLong());
+            if (errorRateNow - errorRateThen > maxErrorRateIncrease) {
+                System.out.printf("REGRESSION %s error rate: %.2f%% -> %.2f%%%n", entry.getKey(), errorRateThen,
+                        errorRateNow);
+                regressed = true;
+            }
+        }
+        System.out.println(regressed ? "Regressions against " + baselineFile : "No regressions against " + baselineFile);
+        return regressed;
+    }
+
+    private static boolean check(String route, String metric, JsonNode before, JsonNode after, double maxPercent,
+                                 boolean lowerIsBetter) {
+        double then = before.path(metric).asDouble();
+        double now = after.path(metric).asDouble();
+        if (then == 0) {
+            return false;
+        }
+        double change = (now - then) / then * 100;
+        boolean worse = lowerIsBetter
+                ? change > maxPercent && now - then > LATENCY_NOISE_MS
+                : change < -maxPercent;
+        if (worse) {
+            System.out.printf("REGRESSION %s %s: %.2f -> %.2f (%+.1f%%)%n", route, metric, then, now, change);
+        }
+        return worse;
+    }
+
+    // Percentage of requests that failed; computed from the counts so older baselines compare too
+    private static double errorRate(long errors, long count) {
+        return count == 0 ? 0 : errors * 100.0 / count;
+    }
+
+    private static double round(double value) {
+        return Math.round(value * 100) / 100.0;
+    }
+}
@@ -0,0 +1,90 @@
+package com.projectmanager.loadtest;
+
+import com.projectmanager.backend.dto.request.ProjectRequest;
+import com.projectmanager.backend.service.AuthService;
+import com.projectmanager.backend.service.ProjectService;
+import com.projectmanager.backend.service.TaskImportService;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+
+/**
+ * Seeds the dataset through the application's own services: users via registration, projects via
+ * ProjectService and tasks through the bulk import path, so counters, search terms and the change log
+ * are populated the same way production data is.
+ */
+final class Seeder {
+    static final String PASSWORD = "loadtest-password";
+    static final String[] VOCABULARY = {
+            "launch", "roadmap", "billing", "onboarding", "migration", "audit", "mobile", "search",
+            "analytics", "hiring", "security", "payments", "dashboard", "release", "support", "design"
+    };
+
+    record SeededUser(String email, List<UUID> projectIds) {
+    }
+
+    private final AuthService authService;
+    private final ProjectService projectService;
+    private final TaskImportService taskImportService;
+    private final Random random;
+
+    Seeder(ConfigurableApplicationContext context, long seed) {
+        this.authService = context.getBean(AuthService.class);
+        this.projectService = context.getBean(ProjectService.class);
+        this.taskImportService = context.getBean(TaskImportService.class);
+        this.random = new Random(seed);
+    }
+
+    List<SeededUser> seed(Options options) {
+        List<SeededUser> users = new ArrayList<>(options.users);
+        for (int u = 0; u < options.users; u++) {
+            String email = "loadtest-" + u + "@example.com";
+            authService.registerUser(email, PASSWORD);
+            // Skewed: a few heavy users, most with fewer projects
+            int projects = Math.max(1, (int) Math.round(options.projectsPerUser * 2 * Math.pow(random.nextDouble(), 2)));
+            List<UUID> projectIds = new ArrayList<>(projects);
+            for (int p = 0; p < projects; p++) {
+                ProjectRequest request = new ProjectRequest();
+                request.setTitle(phrase(2) + " " + p);
+                request.setDescription("Work on " + phrase(4));
+                UUID projectId = projectService.createProject(request, email).getId();
+                importTasks(projectId, email, options.tasksPerProject);
+                projectIds.add(projectId);
+            }
+            users.add(new SeededUser(email, projectIds));
+        }
+        return users;
+    }
+
+    String phrase(int words) {
+        StringBuilder phrase = new StringBuilder();
+        for (int i = 0; i < words; i++) {
+            if (i > 0) {
+                phrase.append(' ');
+            }
+            phrase.append(VOCABULARY[random.nextInt(VOCABULARY.length)]);
+        }
+        return phrase.toString();
+    }
+
+    private void importTasks(UUID projectId, String email, int averageTasks) {
+        int tasks = random.nextInt(averageTasks * 2 + 1);
+        double completionRatio = random.nextDouble();
+        StringBuilder ndjson = new StringBuilder();
+        for (int t = 0; t < tasks; t++) {
+            ndjson.append("{\"title\":\"").append(phrase(3))
+                    .append("\",\"description\":\"").append(phrase(6))
+                    .append("\",\"dueDate\":\"").append(LocalDate.now().plusDays(random.nextInt(90)))
+                    .append("\",\"isCompleted\":").append(random.nextDouble() < completionRatio)
+                    .append("}\n");
+        }
+        taskImportService.importTasks(projectId, TaskImportService.Format.NDJSON,
+                new ByteArrayInputStream(ndjson.toString().getBytes(StandardCharsets.UTF_8)), email);
+    }
+}
@@ -0,0 +1,146 @@
+package com.projectmanager.loadtest;
+
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.LocalDate;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Random;
+import java.util.UUID;
+import java.util.function.BooleanSupplier;
+
+/**
+ * One closed-loop client: logs in as its seeded user, then issues a weighted mix of dashboard, detail and
+ * task-editing requests back to back. Tasks it creates are the ones it later toggles and deletes, so the
+ * seeded dataset keeps its shape over the run.
+ */
+final class VirtualUser implements Runnable {
+    // Cumulative weights out of 100. A login is a BCrypt hash, an order of magnitude more CPU than any other request,
+    // so it stays rare like a real session start; at 5% it saturated the hash pool on one CPU and failed with 503s
+    private static final int LOGIN = 1;
+    private static final int DASHBOARD = LOGIN + 29;
+    private static final int DASHBOARD_SEARCH = DASHBOARD + 10;
+    private static final int PROJECT_DETAIL = DASHBOARD_SEARCH + 20;
+    private static final int TASK_LIST = PROJECT_DETAIL + 20;
+    private static final int CREATE_TASK = TASK_LIST + 8;
+    private static final int TOGGLE_TASK = CREATE_TASK + 8;
+    private static final int DASHBOARD_PAGE_SIZE = 6;
+
+    private final HttpClient client;
+    private final ObjectMapper objectMapper;
+    private final String baseUrl;
+    private final Seeder.SeededUser user;
+    private final Random random;
+    private final LatencyRecorder recorder;
+    private final BooleanSupplier running;
+    private final BooleanSupplier measuring;
+    private final Deque<UUID> ownTasks = new ArrayDeque<>();
+    private String token;
+
+    VirtualUser(HttpClient client, ObjectMapper objectMapper, String baseUrl, Seeder.SeededUser user, long seed,
+                LatencyRecorder recorder, BooleanSupplier running, BooleanSupplier measuring) {
+        this.client = client;
+        this.objectMapper = objectMapper;
+        this.baseUrl = baseUrl;
+        this.user = user;
+        this.random = new Random(seed);
+        this.recorder = recorder;
+        this.running = running;
+        this.measuring = measuring;
+    }
+
+    @Override
+    public void run() {
+        try {
+            // Every other route needs the token, so a rejected first login is retried instead of turning into 403s
+            while (token == null && running.getAsBoolean()) {
+                login();
+            }
+            while (running.getAsBoolean()) {
+                step(random.nextInt(100));
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void step(int roll) throws InterruptedException {
+        UUID projectId = user.projectIds().get(random.nextInt(user.projectIds().size()));
+        if (roll < LOGIN) {
+            login();
+        } else if (roll < DASHBOARD) {
+            int pages = (user.projectIds().size() + DASHBOARD_PAGE_SIZE - 1) / DASHBOARD_PAGE_SIZE;
+            send("GET /api/projects", get("/api/projects?page=" + random.nextInt(pages) + "&limit=" + DASHBOARD_PAGE_SIZE));
+        } else if (roll < DASHBOARD_SEARCH) {
+            String word = Seeder.VOCABULARY[random.nextInt(Seeder.VOCABULARY.length)];
+            send("GET /api/projects?search", get("/api/projects?page=0&limit=" + DASHBOARD_PAGE_SIZE + "&search=" + word));
+        } else if (roll < PROJECT_DETAIL) {
+            send("GET /api/projects/{id}", get("/api/projects/" + projectId));
+        } else if (roll < TASK_LIST) {
+            send("GET /api/projects/{id}/tasks", get("/api/projects/" + projectId + "/tasks"));
+        } else if (roll < CREATE_TASK || ownTasks.isEmpty()) {
+            createTask(projectId);
+        } else if (roll < TOGGLE_TASK) {
+            UUID taskId = ownTasks.peekLast();
+            String state = random.nextBoolean() ? "complete" : "incomplete";
+            send("PATCH /api/tasks/{id}/" + state, authorized("/api/tasks/" + taskId + "/" + state)
+                    .method("PATCH", HttpRequest.BodyPublishers.noBody()).build());
+        } else {
+            send("DELETE /api/tasks/{id}", authorized("/api/tasks/" + ownTasks.pollFirst()).DELETE().build());
+        }
+    }
+
+    private void login() throws InterruptedException {
+        String body = "{\"email\":\"" + user.email() + "\",\"password\":\"" + Seeder.PASSWORD + "\"}";
+        HttpResponse<String> response = send("POST /api/auth/login", HttpRequest.newBuilder(URI.create(baseUrl + "/api/auth/login"))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body))
+                .build());
+        if (response != null && response.statusCode() == 200) {
+            token = objectMapper.readTree(response.body()).path("accessToken").asString();
+        }
+    }
+
+    private void createTask(UUID projectId) throws InterruptedException {
+        String body = "{\"title\":\"Load task\",\"description\":\"Created by the load test\",\"dueDate\":\""
+                + LocalDate.now().plusDays(7) + "\"}";
+        HttpResponse<String> response = send("POST /api/projects/{id}/tasks", authorized("/api/projects/" + projectId + "/tasks")
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body))
+                .build());
+        if (response != null && response.statusCode() == 200) {
+            JsonNode created = objectMapper.readTree(response.body());
+            ownTasks.addLast(UUID.fromString(created.path("id").asString()));
+        }
+    }
+
+    private HttpRequest get(String path) {
+        return authorized(path).GET().build();
+    }
+
+    private HttpRequest.Builder authorized(String path) {
+        return HttpRequest.newBuilder(URI.create(baseUrl + path)).header("Authorization", "Bearer " + token);
+    }
+
+    private HttpResponse<String> send(String route, HttpRequest request) throws InterruptedException {
+        boolean record = measuring.getAsBoolean();
+        long start = System.nanoTime();
+        HttpResponse<String> response = null;
+        try {
+            response = client.send(request, HttpResponse.BodyHandlers.ofString());
+        } catch (IOException e) {
+            // Counted as an error below
+        }
+        long elapsed = System.nanoTime() - start;
+        if (record) {
+            recorder.record(route, elapsed, response == null || response.statusCode() >= 400);
+        }
+        return response;
+    }
+}